@@ -0,0 +1,49 @@
+/**
+ * AI 서버 응답이 느릴 때 서버가 동시에 처리할 수 있는 요청 수를 측정하는 k6 스크립트
+ *
+ * /api/v1/sentiment/analyze 는 AI 서버 응답을 기다리는 동안 요청 스레드를 점유한다.
+ * 플랫폼 스레드 모드에서는 동시 요청이 Tomcat 작업 스레드 수(기본 200)를 넘으면 대기열에 쌓여
+ * 응답 시간이 스텁 지연의 배수로 늘어나고, 가상 스레드 모드에서는 스텁 지연 근처에 머물러야 한다.
+ *
+ * 측정 방법
+ *   1. python3 scripts/load/slow_ai_stub.py
+ *   2. 기존 방식:   ./gradlew bootRun
+ *      가상 스레드: VIRTUAL_THREADS_ENABLED=true ./gradlew bootRun -PjavaVersion=21
+ *      (두 경우 모두 AI_SERVER_BASE_URL=http://localhost:8000)
+ *   3. k6 run -e BASE_URL=http://localhost:8080 -e MAX_VUS=600 scripts/load/ai-blocking-capacity.js
+ *   4. 두 실행의 http_req_duration p95, http_reqs, 실패율을 비교한다.
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '600', 10);
+const STUB_DELAY_SECONDS = parseFloat(__ENV.AI_STUB_DELAY_SECONDS || '5');
+
+export const options = {
+    scenarios: {
+        slow_ai_calls: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: Math.floor(MAX_VUS / 3) },
+                { duration: '30s', target: MAX_VUS },
+                { duration: '1m', target: MAX_VUS },
+                { duration: '15s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        // 대기열 없이 처리되면 응답 시간은 스텁 지연 + 약간의 오버헤드에 머문다.
+        http_req_duration: [`p(95)<${Math.round(STUB_DELAY_SECONDS * 1000 * 1.5)}`],
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const res = http.post(`${BASE_URL}/api/v1/sentiment/analyze`, null, {
+        timeout: '180s',
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
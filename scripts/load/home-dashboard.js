@@ -0,0 +1,40 @@
+/**
+ * 홈 정보 통합 조회(/api/v1/home) 응답 시간을 측정하는 k6 스크립트
+ *
+ * 홈 정보는 앱 진입 시마다 호출된다. 조회 쿼리를 사용자 조회 + 상태 조회 두 번으로 줄인 뒤
+ * 같은 부하에서 p99가 얼마나 내려가는지 비교한다. 쿼리 수 자체는 HomeServiceTest에서 확인한다.
+ *
+ * 측정 방법
+ *   1. 알림/타임캡슐/리포트가 쌓인 계정으로 로그인해 액세스 토큰을 받는다.
+ *   2. 변경 전 커밋과 변경 후 커밋에서 각각 ./gradlew bootRun
+ *   3. k6 run -e BASE_URL=http://localhost:8080 -e ACCESS_TOKEN=<토큰> -e VUS=100 scripts/load/home-dashboard.js
+ *   4. 두 실행의 http_req_duration p99, http_reqs, 실패율을 비교한다.
+ */
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN || '';
+const VUS = parseInt(__ENV.VUS || '100', 10);
+
+export const options = {
+    scenarios: {
+        home_dashboard: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: __ENV.DURATION || '2m',
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_duration: [`p(99)<${parseInt(__ENV.P99_MS || '200', 10)}`],
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const res = http.get(`${BASE_URL}/api/v1/home`, {
+        headers: ACCESS_TOKEN ? { Authorization: `Bearer ${ACCESS_TOKEN}` } : {},
+    });
+    check(res, { 'status is 200': (r) => r.status === 200 });
+}
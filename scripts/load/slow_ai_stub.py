@@ -0,0 +1,52 @@
+"""
+부하 테스트용 느린 AI 서버 스텁
+
+LLM 호출처럼 응답이 늦는 AI 서버를 흉내 낸다. 요청마다 AI_STUB_DELAY_SECONDS(기본 5초)만큼 기다린 뒤
+/sentiment/analyze 형식의 고정 응답을 돌려준다. 요청마다 스레드를 하나씩 쓰므로 스텁이 병목이 되지 않는다.
+
+    python3 scripts/load/slow_ai_stub.py            # 0.0.0.0:8000
+    AI_STUB_DELAY_SECONDS=10 python3 scripts/load/slow_ai_stub.py 8001
+"""
+import json
+import os
+import sys
+import time
+from http.server import BaseHTTPRequestHandler, ThreadingHTTPServer
+
+DELAY_SECONDS = float(os.environ.get("AI_STUB_DELAY_SECONDS", "5"))
+
+SENTIMENT_RESPONSE = json.dumps({
+    "summaries": ["부하 테스트 요약"],
+    "keywords": ["부하", "테스트"],
+    "sentiment_changes": ["평온"],
+    "stress_level": 30,
+    "hapiness_level": 70,
+    "sentiment_review": "부하 테스트 응답입니다.",
+}).encode("utf-8")
+
+
+class SlowAiHandler(BaseHTTPRequestHandler):
+    protocol_version = "HTTP/1.1"
+
+    def do_POST(self):
+        length = int(self.headers.get("Content-Length", 0))
+        self.rfile.read(length)
+        time.sleep(DELAY_SECONDS)
+
+        self.send_response(200)
+        self.send_header("Content-Type", "application/json")
+        self.send_header("Content-Length", str(len(SENTIMENT_RESPONSE)))
+        self.end_headers()
+        self.wfile.write(SENTIMENT_RESPONSE)
+
+    def log_message(self, format, *args):
+        pass
+
+
+if __name__ == "__main__":
+    port = int(sys.argv[1]) if len(sys.argv) > 1 else 8000
+    server = ThreadingHTTPServer(("0.0.0.0", port), SlowAiHandler)
+    server.daemon_threads = True
+    server.request_queue_size = 1024
+    print(f"slow AI stub listening on :{port} (delay {DELAY_SECONDS}s)")
+    server.serve_forever()
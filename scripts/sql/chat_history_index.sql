@@ -0,0 +1,2 @@
+-- 채팅방 내 채팅 키셋 조회((chat_time, chat_id) 커서)용 복합 인덱스
+CREATE INDEX idx_chat_room_time_id ON chat (chatroom_id, chat_time, chat_id);
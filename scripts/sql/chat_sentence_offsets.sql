@@ -0,0 +1,2 @@
+-- AI 메시지 문장 경계를 저장 시점에 기록한다. 기존 행은 NULL이며 조회 시 다시 나눈다.
+ALTER TABLE chat ADD COLUMN sentence_offsets TEXT NULL;
@@ -0,0 +1,20 @@
+-- 테이블 기반 ID 생성기(IdGenerators) 도입 시 운영 DB(ddl-auto: validate)에 한 번 실행한다.
+-- 기존 AUTO_INCREMENT 값과 겹치지 않도록 현재 최대 ID + 할당 크기(50)부터 시작한다.
+-- chatrooms는 채팅방 목록 커서가 ID 순서를 생성 순서로 보므로 노드마다 블록을 나눠 받는 이 생성기를 쓰지 않고 AUTO_INCREMENT를 유지한다.
+CREATE TABLE IF NOT EXISTS id_generator (
+    sequence_name VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val      BIGINT
+);
+
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'chat', COALESCE(MAX(chat_id), 0) + 50 FROM chat;
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'time_capsules', COALESCE(MAX(time_capsule_id), 0) + 50 FROM time_capsules;
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'analyzed_emotion', COALESCE(MAX(analyzed_emotion_id), 0) + 50 FROM analyzed_emotion;
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'analyzed_feedback', COALESCE(MAX(analyzed_feedback_id), 0) + 50 FROM analyzed_feedback;
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'keywords', COALESCE(MAX(keyword_id), 0) + 50 FROM keywords;
+INSERT INTO id_generator (sequence_name, next_val)
+SELECT 'emotion_variation', COALESCE(MAX(emotion_variation_id), 0) + 50 FROM emotion_variation;
@@ -0,0 +1,2 @@
+-- 일일 리포트 생성 대상 조회(history_date 범위 → user_id)용 복합 인덱스
+CREATE INDEX idx_time_capsule_history_date_user ON time_capsules (history_date, user_id);
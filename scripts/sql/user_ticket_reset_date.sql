@@ -0,0 +1,4 @@
+-- 티켓을 자정 배치 대신 그날 첫 조회/사용 시 충전한다. 배포 당일 재충전을 막기 위해 기존 행은 오늘 날짜로 채운다.
+ALTER TABLE users ADD COLUMN ticket_reset_date DATE NULL;
+-- DB 세션 시간대가 UTC여도 애플리케이션이 쓰는 KST 기준 날짜가 들어가도록 변환한다.
+UPDATE users SET ticket_reset_date = DATE(CONVERT_TZ(NOW(), '+00:00', '+09:00'));
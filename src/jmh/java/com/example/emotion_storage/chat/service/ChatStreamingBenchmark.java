@@ -0,0 +1,107 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.chat.domain.SenderType;
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import com.example.emotion_storage.chat.dto.response.ChatMessageResponse;
+import com.example.emotion_storage.global.util.ChatTimestampCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * 채팅 스트리밍 경로의 토큰당 CPU 비용
+ * - decode*: WebSocketClientService.handleTextMessage의 AiResponseDto 역직렬화 (decodeDeltaStreaming은 delta 전용 경로)
+ * - serializeDelta: ChatService.sendStreamingDelta가 보내는 chat.delta 메시지의 직렬화 (브로커 컨버터와 동일)
+ * - splitAiChat / readStoredSentences: AI 응답 문장 분리와 저장된 오프셋으로 문장을 꺼내는 조회 경로
+ * - extractRoomId: AI 프레임의 sessionId에서 채팅방 ID 추출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatStreamingBenchmark {
+
+    private static final String DELTA_FRAME =
+            "{\"type\":\"chat.delta\",\"sessionId\":\"session-12-345\",\"text\":\"오늘은 \"}";
+    private static final String END_FRAME =
+            "{\"type\":\"chat.end\",\"sessionId\":\"session-12-345\",\"fullResponse\":\"오늘 하루도 수고 많았어요. 어떤 일이 가장 기억에 남나요?\"}";
+    private static final String GAUGE_FRAME =
+            "{\"type\":\"gauge.result\",\"sessionId\":\"session-12-345\",\"gauge\":{\"gauge_score\":42,\"turn_count_score\":8,\"emotion_expression_score\":9}}";
+    private static final String AI_MESSAGE =
+            "오늘 하루도 정말 수고 많았어요! 힘든 일이 있었던 것 같네요. 어떤 부분이 가장 마음에 남았나요? "
+                    + "천천히 이야기해 주셔도 괜찮아요. 제가 끝까지 들을게요！ 혹시 지금 기분은 어떤가요？";
+
+    private ObjectMapper objectMapper;
+    private AiFrameDecoder frameDecoder;
+    private String sessionId;
+    private LocalDateTime now;
+    private String aiMessageOffsets;
+
+    @Setup
+    public void setup() {
+        // Spring Boot가 주입하는 ObjectMapper와 같은 기본 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        frameDecoder = new AiFrameDecoder(objectMapper.getFactory());
+        sessionId = "session-12-345";
+        now = LocalDateTime.now();
+        aiMessageOffsets = AiSentenceSplitter.encodeOffsets(AI_MESSAGE);
+    }
+
+    @Benchmark
+    public AiResponseDto decodeDelta() throws JsonProcessingException {
+        return objectMapper.readValue(DELTA_FRAME, AiResponseDto.class);
+    }
+
+    @Benchmark
+    public AiFrameDecoder.DeltaFrame decodeDeltaStreaming() throws IOException {
+        return frameDecoder.tryDecodeDelta(DELTA_FRAME);
+    }
+
+    @Benchmark
+    public AiResponseDto decodeEnd() throws JsonProcessingException {
+        return objectMapper.readValue(END_FRAME, AiResponseDto.class);
+    }
+
+    @Benchmark
+    public AiResponseDto decodeGauge() throws JsonProcessingException {
+        return objectMapper.readValue(GAUGE_FRAME, AiResponseDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializeDelta() throws JsonProcessingException {
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .content("오늘은 ")
+                .sender(SenderType.MOOI)
+                .roomId(345L)
+                .sessionId(sessionId)
+                .timestamp(ChatTimestampCodec.formatIso(now))
+                .messageType("chat.delta")
+                .build();
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public List<String> splitAiChat() {
+        return AiSentenceSplitter.split(AI_MESSAGE);
+    }
+
+    @Benchmark
+    public List<String> readStoredSentences() {
+        return AiSentenceSplitter.sentencesOf(AI_MESSAGE, aiMessageOffsets);
+    }
+
+    @Benchmark
+    public Long extractRoomId() {
+        return ChatSessionIds.extractRoomId(sessionId);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.emotion_storage.global.util;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 채팅 timestamp 파싱 비용 비교
+ * legacy* 는 기존 ChatMessageStore 경로(메시지마다 포맷터 생성, 두 번 파싱 / LocalDateTime.parse)를 그대로 재현한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChatTimestampCodecBenchmark {
+
+    private final String clientTimestamp = "2025-10-10 00:40:02.230";
+    private final String aiTimestamp = "2025-10-10T00:40:02.230468";
+
+    @Benchmark
+    public LocalDateTime legacyClient() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+        LocalDateTime firstChatTime = LocalDateTime.parse(clientTimestamp, formatter);
+        LocalDateTime chatTime = LocalDateTime.parse(clientTimestamp, formatter);
+        return firstChatTime.isAfter(chatTime) ? firstChatTime : chatTime;
+    }
+
+    @Benchmark
+    public LocalDateTime sharedFormatterClient() {
+        return LocalDateTime.parse(clientTimestamp, ChatTimestampCodec.CLIENT_FORMATTER);
+    }
+
+    @Benchmark
+    public LocalDateTime codecClient() {
+        return ChatTimestampCodec.parseClient(clientTimestamp);
+    }
+
+    @Benchmark
+    public LocalDateTime legacyAi() {
+        return LocalDateTime.parse(aiTimestamp);
+    }
+
+    @Benchmark
+    public LocalDateTime codecAi() {
+        return ChatTimestampCodec.parseAi(aiTimestamp);
+    }
+}
@@ -3,11 +3,13 @@ package com.example.emotion_storage.attendance.service;
 import com.example.emotion_storage.attendance.response.AttendanceStreakStatusResponse;
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.user.domain.User;
 import com.example.emotion_storage.user.repository.UserRepository;
 import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,6 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class AttendanceService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public AttendanceStreakStatusResponse getAttendanceRewardStatus(Long userId) {
@@ -58,6 +61,8 @@ public class AttendanceService {
             log.info("사용자 {}가 만료된 날짜({})에 대한 출석 보상을 요청했습니다.", userId, rewardDate);
             throw new BaseException(ErrorCode.EXPIRED_ATTENDANCE_REWARD);
         }
+        // 보상을 받지 못하면 롤백되어 캐시를 무효화하지 않는다.
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
 
         if (lastAttendanceRewardDate == null) {
             log.info("사용자 {}가 첫 출석 보상을 받았습니다.", userId);
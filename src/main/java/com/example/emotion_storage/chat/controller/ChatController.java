@@ -3,6 +3,8 @@ package com.example.emotion_storage.chat.controller;
 import com.example.emotion_storage.chat.dto.request.ChatRequest;
 import com.example.emotion_storage.chat.dto.response.AiChatResponse;
 import com.example.emotion_storage.chat.dto.response.ChatRoomTempSaveResponse;
+import com.example.emotion_storage.chat.dto.response.ChatSliceResponse;
+import com.example.emotion_storage.chat.dto.response.RoomSliceResponse;
 import com.example.emotion_storage.chat.dto.response.SingleRoomSliceResponse;
 import com.example.emotion_storage.chat.service.ChatService;
 import com.example.emotion_storage.global.api.ApiResponse;
@@ -10,8 +12,10 @@ import com.example.emotion_storage.global.api.SuccessMessage;
 import com.example.emotion_storage.global.security.principal.CustomUserPrincipal;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -78,4 +82,36 @@ public class ChatController {
                 ApiResponse.success(SuccessMessage.CHAT_ROOM_MESSAGE_FETCH_SUCCESS.getMessage(), response)
         );
     }
+
+    @GetMapping("/rooms/slice")
+    @Operation(summary = "여러 채팅방의 모든 메시지 조회", description = "cursor가 없으면 최신 방부터, 있으면 해당 ID보다 이전 방을 size개씩 채팅과 함께 반환합니다.")
+    public ResponseEntity<ApiResponse<RoomSliceResponse>> getRoomsWithChats(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : 1L; // TODO: 개발 테스트를 위한 코드
+        log.info("사용자 {}가 채팅방 {}개의 메시지 조회를 요청했습니다.", userId, size);
+        RoomSliceResponse response = chatService.getRoomsWithChats(userId, cursor, size);
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.CHAT_ROOM_MESSAGE_FETCH_SUCCESS.getMessage(), response)
+        );
+    }
+
+    @GetMapping("/rooms/{roomId}/chats")
+    @Operation(summary = "채팅방 내 메시지 커서 조회", description = "커서가 없으면 가장 오래된 메시지부터, 있으면 커서 이후 메시지를 size개씩 반환합니다.")
+    public ResponseEntity<ApiResponse<ChatSliceResponse>> getChatsInRoom(
+            @PathVariable Long roomId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorTime,
+            @RequestParam(required = false) Long cursorId,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : 1L; // TODO: 개발 테스트를 위한 코드
+        log.info("사용자 {}가 채팅방 {}의 메시지 조회를 요청했습니다.", userId, roomId);
+        ChatSliceResponse response = chatService.getChatsInRoom(userId, roomId, cursorTime, cursorId, size);
+        return ResponseEntity.ok(
+                ApiResponse.success(SuccessMessage.CHAT_ROOM_MESSAGE_FETCH_SUCCESS.getMessage(), response)
+        );
+    }
 }
@@ -1,6 +1,7 @@
 package com.example.emotion_storage.chat.domain;
 
 import com.example.emotion_storage.global.entity.BaseTimeEntity;
+import com.example.emotion_storage.global.entity.IdGenerators;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -9,9 +10,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.time.LocalDateTime;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,7 +23,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "chat")
+@Table(
+        name = "chat",
+        indexes = @Index(name = "idx_chat_room_time_id", columnList = "chatroom_id, chat_time, chat_id")
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -28,7 +34,15 @@ import lombok.NoArgsConstructor;
 public class Chat extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "chat_id_generator")
+    @TableGenerator(
+            name = "chat_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "chat",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     @Column(name = "chat_id")
     private Long id;
 
@@ -46,6 +60,10 @@ public class Chat extends BaseTimeEntity {
     @Column(name = "chat_time", nullable = false)
     private LocalDateTime chatTime;
 
+    // AI 메시지의 문장 경계 ("시작-끝,시작-끝"), 저장 시점에 계산한다.
+    @Column(name = "sentence_offsets", columnDefinition = "TEXT")
+    private String sentenceOffsets;
+
     public void setChatRoom(ChatRoom chatRoom) {
         this.chatRoom = chatRoom;
     }
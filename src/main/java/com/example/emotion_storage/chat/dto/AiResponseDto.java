@@ -1,5 +1,6 @@
 package com.example.emotion_storage.chat.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -13,6 +14,7 @@ public class AiResponseDto {
     private String type;
     private String text; // chat.delta 메시지의 text 필드
     private String message; // error 메시지용
+    @JsonAlias("session_id") // chat.delta 외 프레임도 AiFrameDecoder와 같은 두 표기를 받는다
     private String sessionId;
     private String fullResponse;
     private GaugeDto gauge; // gauge.result 메시지의 gauge 필드
@@ -0,0 +1,15 @@
+package com.example.emotion_storage.chat.dto;
+
+import com.example.emotion_storage.chat.domain.SenderType;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 기록 조회용 프로젝션 (엔티티를 영속성 컨텍스트에 올리지 않는다)
+ */
+public record ChatHistoryRow(
+        Long id,
+        SenderType sender,
+        String message,
+        LocalDateTime chatTime,
+        String sentenceOffsets
+) {}
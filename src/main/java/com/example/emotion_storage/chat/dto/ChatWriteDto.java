@@ -0,0 +1,36 @@
+package com.example.emotion_storage.chat.dto;
+
+import com.example.emotion_storage.chat.domain.SenderType;
+import com.example.emotion_storage.global.util.ChatTimestampCodec;
+import java.time.LocalDateTime;
+
+/**
+ * write-behind 큐에 쌓이는 채팅 저장 요청
+ */
+public record ChatWriteDto(
+        Long roomId,
+        Long userId,
+        SenderType sender,
+        String message,
+        LocalDateTime chatTime,
+        GaugeDto gauge
+) {
+
+    public static ChatWriteDto ofUserMessage(UserMessageDto userMessage, Long userId) {
+        return new ChatWriteDto(
+                userMessage.roomId(),
+                userId,
+                SenderType.USER,
+                userMessage.content(),
+                ChatTimestampCodec.parseClient(userMessage.timestamp()),
+                null
+        );
+    }
+
+    /**
+     * AI 서버에서 받은 timestamp는 ISO 형식 (예: 2025-10-10T00:40:02.230468)
+     */
+    public static ChatWriteDto ofAiMessage(Long roomId, String message, String timestamp, GaugeDto gauge) {
+        return new ChatWriteDto(roomId, null, SenderType.MOOI, message, ChatTimestampCodec.parseAi(timestamp), gauge);
+    }
+}
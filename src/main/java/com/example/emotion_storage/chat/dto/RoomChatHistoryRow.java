@@ -0,0 +1,20 @@
+package com.example.emotion_storage.chat.dto;
+
+import com.example.emotion_storage.chat.domain.SenderType;
+import java.time.LocalDateTime;
+
+/**
+ * 여러 채팅방의 채팅을 한 번에 조회할 때 쓰는 프로젝션 (채팅방 ID 포함)
+ */
+public record RoomChatHistoryRow(
+        Long roomId,
+        Long id,
+        SenderType sender,
+        String message,
+        LocalDateTime chatTime,
+        String sentenceOffsets
+) {
+    public ChatHistoryRow toHistoryRow() {
+        return new ChatHistoryRow(id, sender, message, chatTime, sentenceOffsets);
+    }
+}
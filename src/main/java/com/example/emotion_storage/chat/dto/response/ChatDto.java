@@ -1,6 +1,7 @@
 package com.example.emotion_storage.chat.dto.response;
 
 import com.example.emotion_storage.chat.domain.Chat;
+import com.example.emotion_storage.chat.dto.ChatHistoryRow;
 import java.time.LocalDateTime;
 
 public record ChatDto(
@@ -15,4 +16,10 @@ public record ChatDto(
                 chat.getId(), chat.getId().toString(), chat.getSender().name(), chat.getMessage(), chat.getChatTime()
         );
     }
+
+    public static ChatDto from(ChatHistoryRow row) {
+        return new ChatDto(
+                row.id(), row.id().toString(), row.sender().name(), row.message(), row.chatTime()
+        );
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.emotion_storage.chat.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record ChatSliceResponse(
+        Long chatRoomId,
+        List<ChatDto> chats,
+        LocalDateTime nextCursorTime,
+        Long nextCursorId,
+        boolean hasNext
+) {}
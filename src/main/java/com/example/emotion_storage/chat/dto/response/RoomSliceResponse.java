@@ -0,0 +1,9 @@
+package com.example.emotion_storage.chat.dto.response;
+
+import java.util.List;
+
+public record RoomSliceResponse(
+        List<RoomWithChatsDto> rooms,
+        Long nextCursor,
+        boolean hasNext
+) {}
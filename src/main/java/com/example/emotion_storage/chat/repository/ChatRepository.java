@@ -1,7 +1,12 @@
 package com.example.emotion_storage.chat.repository;
 
 import com.example.emotion_storage.chat.domain.Chat;
+import com.example.emotion_storage.chat.dto.ChatHistoryRow;
+import com.example.emotion_storage.chat.dto.RoomChatHistoryRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,4 +21,35 @@ public interface ChatRepository extends JpaRepository<Chat, Long> {
             "ORDER BY c.chatTime ASC, c.id ASC "
     )
     List<Chat> findAllByRoomIdOrderByTimeAsc(@Param("roomId") Long roomId);
+
+    @Query(
+            "SELECT new com.example.emotion_storage.chat.dto.ChatHistoryRow(" +
+            "c.id, c.sender, c.message, c.chatTime, c.sentenceOffsets) " +
+            "FROM Chat c " +
+            "WHERE c.chatRoom.id = :roomId " +
+            "ORDER BY c.chatTime ASC, c.id ASC"
+    )
+    List<ChatHistoryRow> findHistoryByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+    @Query(
+            "SELECT new com.example.emotion_storage.chat.dto.ChatHistoryRow(" +
+            "c.id, c.sender, c.message, c.chatTime, c.sentenceOffsets) " +
+            "FROM Chat c " +
+            "WHERE c.chatRoom.id = :roomId " +
+            "AND (c.chatTime > :cursorTime OR (c.chatTime = :cursorTime AND c.id > :cursorId)) " +
+            "ORDER BY c.chatTime ASC, c.id ASC"
+    )
+    List<ChatHistoryRow> findHistoryByRoomIdAfter(
+            @Param("roomId") Long roomId, @Param("cursorTime") LocalDateTime cursorTime,
+            @Param("cursorId") Long cursorId, Pageable pageable
+    );
+
+    @Query(
+            "SELECT new com.example.emotion_storage.chat.dto.RoomChatHistoryRow(" +
+            "c.chatRoom.id, c.id, c.sender, c.message, c.chatTime, c.sentenceOffsets) " +
+            "FROM Chat c " +
+            "WHERE c.chatRoom.id IN :roomIds " +
+            "ORDER BY c.chatRoom.id, c.chatTime ASC, c.id ASC"
+    )
+    List<RoomChatHistoryRow> findHistoryByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
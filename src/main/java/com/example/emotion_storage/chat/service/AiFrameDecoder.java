@@ -0,0 +1,67 @@
+package com.example.emotion_storage.chat.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.IOException;
+
+/**
+ * 가장 자주 오는 chat.delta 프레임을 AiResponseDto 바인딩 없이 읽는 디코더
+ * 최상위 필드만 스트리밍으로 훑어 type, session_id, text만 꺼낸다.
+ * chat.delta가 아니면 null을 반환하고, 호출 측은 기존처럼 전체 DTO로 바인딩한다.
+ */
+final class AiFrameDecoder {
+
+    private static final String MESSAGE_TYPE_CHAT_DELTA = "chat.delta";
+
+    private final JsonFactory jsonFactory;
+
+    AiFrameDecoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    record DeltaFrame(String sessionId, String text) {
+    }
+
+    DeltaFrame tryDecodeDelta(String payload) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+
+            boolean isDelta = false;
+            String sessionId = null;
+            String text = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+
+                switch (field) {
+                    case "type" -> {
+                        if (!MESSAGE_TYPE_CHAT_DELTA.equals(textOrNull(parser, value))) {
+                            return null;
+                        }
+                        isDelta = true;
+                    }
+                    case "sessionId", "session_id" -> sessionId = textOrNull(parser, value);
+                    case "text" -> text = textOrNull(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+
+            return isDelta ? new DeltaFrame(sessionId, text) : null;
+        }
+    }
+
+    private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.getText();
+    }
+}
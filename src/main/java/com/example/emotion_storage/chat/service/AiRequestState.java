@@ -0,0 +1,117 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import com.example.emotion_storage.chat.dto.GaugeDto;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AI 요청 한 턴의 상관관계 상태
+ * 응답 future, 누적 응답 본문, gauge 결과와 진행 플래그를 하나의 객체로 관리한다.
+ * 플래그는 CAS로만 전이되므로 완료 처리는 정확히 한 번만 성공한다.
+ */
+class AiRequestState {
+
+    private static final int CHAT_END_RECEIVED = 1;
+    private static final int GAUGE_RECEIVED = 1 << 1;
+    private static final int GAUGE_WAIT_EXPIRED = 1 << 2;
+    private static final int COMPLETED = 1 << 3;
+
+    private final String sessionId;
+    private final CompletableFuture<AiResponseDto> future;
+    // delta는 하나의 연결 수신 스레드에서 순서대로 누적되고, 플래그 CAS 이후에만 다른 스레드에서 읽힌다.
+    private final StringBuilder responseBuilder = new StringBuilder();
+    private final AtomicInteger flags = new AtomicInteger();
+    private volatile GaugeDto gauge;
+    private volatile AiWebSocketConnection connection;
+
+    AiRequestState(String sessionId, CompletableFuture<AiResponseDto> future) {
+        this.sessionId = sessionId;
+        this.future = future;
+    }
+
+    String getSessionId() {
+        return sessionId;
+    }
+
+    CompletableFuture<AiResponseDto> getFuture() {
+        return future;
+    }
+
+    AiWebSocketConnection getConnection() {
+        return connection;
+    }
+
+    void bindConnection(AiWebSocketConnection connection) {
+        this.connection = connection;
+    }
+
+    int appendDelta(String deltaText) {
+        responseBuilder.append(deltaText);
+        return responseBuilder.length();
+    }
+
+    String getFullResponse() {
+        return responseBuilder.toString();
+    }
+
+    GaugeDto getGauge() {
+        return gauge;
+    }
+
+    boolean isChatEndReceived() {
+        return (flags.get() & CHAT_END_RECEIVED) != 0;
+    }
+
+    boolean isGaugeReceived() {
+        return (flags.get() & GAUGE_RECEIVED) != 0;
+    }
+
+    boolean isCompleted() {
+        return (flags.get() & COMPLETED) != 0;
+    }
+
+    void markChatEndReceived() {
+        setFlag(CHAT_END_RECEIVED);
+    }
+
+    void markGaugeWaitExpired() {
+        setFlag(GAUGE_WAIT_EXPIRED);
+    }
+
+    void receiveGauge(GaugeDto gauge) {
+        this.gauge = gauge;
+        setFlag(GAUGE_RECEIVED);
+    }
+
+    /**
+     * chat.end를 받았고 gauge 결과가 도착했거나 대기 시간이 만료되었다면 완료 상태로 전이한다.
+     * 완료 상태로 전이시킨 호출자만 true를 반환받는다.
+     */
+    boolean tryMarkCompleted() {
+        while (true) {
+            int current = flags.get();
+            if ((current & COMPLETED) != 0 || (current & CHAT_END_RECEIVED) == 0) {
+                return false;
+            }
+            if ((current & (GAUGE_RECEIVED | GAUGE_WAIT_EXPIRED)) == 0) {
+                return false;
+            }
+            if (flags.compareAndSet(current, current | COMPLETED)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 오류나 타임아웃으로 종료할 때 사용한다. 이미 완료된 상태라면 false를 반환한다.
+     */
+    boolean tryMarkAborted() {
+        int previous = flags.getAndUpdate(current -> current | COMPLETED);
+        return (previous & COMPLETED) == 0;
+    }
+
+    private void setFlag(int flag) {
+        flags.getAndUpdate(current -> current | flag);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.emotion_storage.chat.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * AI 응답을 문장 부호(. ! ? ！ ？) 뒤에서 나눈다. 앞뒤 공백을 제거하고 빈 조각은 버린다.
+ * 저장 시점에 문장 경계를 "시작-끝,시작-끝" 형식의 오프셋으로 만들어 두면 조회 시에는 substring만 한다.
+ */
+final class AiSentenceSplitter {
+
+    private static final char OFFSET_DELIMITER = ',';
+    private static final char RANGE_DELIMITER = '-';
+
+    private AiSentenceSplitter() {
+    }
+
+    static List<String> split(String message) {
+        List<String> sentences = new ArrayList<>();
+        int[] ranges = ranges(message);
+        for (int i = 0; i < ranges.length; i += 2) {
+            sentences.add(message.substring(ranges[i], ranges[i + 1]));
+        }
+        return sentences;
+    }
+
+    static String encodeOffsets(String message) {
+        int[] ranges = ranges(message);
+        StringBuilder sb = new StringBuilder(ranges.length * 4);
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (i > 0) {
+                sb.append(OFFSET_DELIMITER);
+            }
+            sb.append(ranges[i]).append(RANGE_DELIMITER).append(ranges[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 저장된 오프셋으로 문장을 꺼낸다. 오프셋이 메시지와 맞지 않으면 다시 나눈다.
+     */
+    static List<String> sentencesOf(String message, String offsets) {
+        if (offsets == null || offsets.isEmpty()) {
+            return split(message);
+        }
+
+        List<String> sentences = new ArrayList<>();
+        int position = 0;
+        int length = offsets.length();
+        while (position < length) {
+            int rangeEnd = offsets.indexOf(OFFSET_DELIMITER, position);
+            if (rangeEnd < 0) {
+                rangeEnd = length;
+            }
+            int separator = offsets.indexOf(RANGE_DELIMITER, position);
+            if (separator < 0 || separator > rangeEnd) {
+                return split(message);
+            }
+
+            int start;
+            int end;
+            try {
+                start = Integer.parseInt(offsets, position, separator, 10);
+                end = Integer.parseInt(offsets, separator + 1, rangeEnd, 10);
+            } catch (NumberFormatException e) {
+                return split(message);
+            }
+            if (start < 0 || end > message.length() || start >= end) {
+                return split(message);
+            }
+
+            sentences.add(message.substring(start, end));
+            position = rangeEnd + 1;
+        }
+        return sentences;
+    }
+
+    /**
+     * 공백을 제거한 각 문장의 [시작, 끝) 위치를 순서대로 담는다.
+     */
+    private static int[] ranges(String message) {
+        int[] ranges = new int[8];
+        int count = 0;
+        int segmentStart = 0;
+        int length = message.length();
+
+        for (int i = 0; i <= length; i++) {
+            boolean boundary = i == length || isSentenceEnd(message.charAt(i));
+            if (!boundary) {
+                continue;
+            }
+
+            int end = i == length ? length : i + 1;
+            int start = segmentStart;
+            while (start < end && message.charAt(start) <= ' ') {
+                start++;
+            }
+            int trimmedEnd = end;
+            while (trimmedEnd > start && message.charAt(trimmedEnd - 1) <= ' ') {
+                trimmedEnd--;
+            }
+            if (start < trimmedEnd) {
+                if (count + 2 > ranges.length) {
+                    ranges = Arrays.copyOf(ranges, ranges.length * 2);
+                }
+                ranges[count++] = start;
+                ranges[count++] = trimmedEnd;
+            }
+            segmentStart = end;
+        }
+        return Arrays.copyOf(ranges, count);
+    }
+
+    private static boolean isSentenceEnd(char c) {
+        return c == '.' || c == '!' || c == '?' || c == '！' || c == '？';
+    }
+}
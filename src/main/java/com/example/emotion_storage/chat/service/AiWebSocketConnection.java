@@ -0,0 +1,117 @@
+package com.example.emotion_storage.chat.service;
+
+import java.io.IOException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * AI 서버와의 WebSocket 연결 하나를 나타내는 풀 슬롯
+ * 전송은 연결 단위로 직렬화되고, 처리 중인 요청을 전송 순서(FIFO)대로 함께 관리한다.
+ */
+class AiWebSocketConnection {
+
+    private final int index;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Queue<AiRequestState> inFlightRequests = new ConcurrentLinkedQueue<>();
+    private volatile WebSocketSession session;
+
+    AiWebSocketConnection(int index) {
+        this.index = index;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    boolean isOpen() {
+        WebSocketSession current = session;
+        return current != null && current.isOpen();
+    }
+
+    boolean tryAcquire(int maxInFlight) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    void release() {
+        inFlight.updateAndGet(current -> current > 0 ? current - 1 : 0);
+    }
+
+    synchronized boolean ensureOpen(Function<AiWebSocketConnection, WebSocketSession> connector) {
+        if (isOpen()) {
+            return true;
+        }
+        session = connector.apply(this);
+        return isOpen();
+    }
+
+    synchronized void send(WebSocketMessage<?> message) throws IOException {
+        WebSocketSession current = session;
+        if (current == null || !current.isOpen()) {
+            throw new IllegalStateException("WebSocket 세션이 열려있지 않습니다.");
+        }
+        current.sendMessage(message);
+    }
+
+    /**
+     * 요청을 전송 순서대로 기록한 뒤 전송한다. 기록과 전송이 같은 락 안에서 일어나므로 큐 순서는 실제 전송 순서와 같다.
+     */
+    synchronized void send(AiRequestState state, WebSocketMessage<?> message) throws IOException {
+        inFlightRequests.add(state);
+        try {
+            send(message);
+        } catch (IOException | RuntimeException e) {
+            inFlightRequests.remove(state);
+            throw e;
+        }
+    }
+
+    void untrack(AiRequestState state) {
+        inFlightRequests.remove(state);
+    }
+
+    /**
+     * 아직 완료되지 않은 요청 중 조건을 만족하는 가장 먼저 전송된 요청을 반환한다.
+     */
+    AiRequestState findOldestInFlight(Predicate<AiRequestState> awaiting) {
+        for (AiRequestState state : inFlightRequests) {
+            if (!state.isCompleted() && awaiting.test(state)) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    void markClosed(WebSocketSession closedSession) {
+        if (session == closedSession) {
+            session = null;
+        }
+    }
+
+    void close() {
+        WebSocketSession current = session;
+        session = null;
+        if (current != null && current.isOpen()) {
+            try {
+                current.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * STOMP inbound 스레드에서 받은 사용자 메시지를 별도 스레드에서 처리하는 실행기
+ * 채팅방 ID로 고른 단일 스레드 실행기에 넣으므로 같은 채팅방의 메시지는 받은 순서대로 처리된다.
+ * 대기열이 가득 차면 요청을 거절한다.
+ */
+@Slf4j
+@Component
+public class ChatInboundExecutor {
+
+    private final List<ThreadPoolTaskExecutor> stripes;
+
+    public ChatInboundExecutor(
+            @Value("${chat.inbound.worker-count:8}") int workerCount,
+            @Value("${chat.inbound.queue-capacity:1000}") int queueCapacity
+    ) {
+        int stripeCount = Math.max(1, workerCount);
+        this.stripes = new ArrayList<>(stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+            executor.setCorePoolSize(1);
+            executor.setMaxPoolSize(1);
+            executor.setQueueCapacity(Math.max(1, queueCapacity));
+            executor.setThreadNamePrefix("chat-inbound-" + i + "-");
+            executor.setWaitForTasksToCompleteOnShutdown(true);
+            executor.setAwaitTerminationSeconds(10);
+            executor.initialize();
+            stripes.add(executor);
+        }
+    }
+
+    public void execute(Long roomId, Runnable task) {
+        try {
+            stripes.get(Math.floorMod(roomId.hashCode(), stripes.size())).execute(task);
+        } catch (TaskRejectedException e) {
+            log.warn("[채팅방:{}] 사용자 메시지 처리 대기열이 가득 차 요청을 거절합니다.", roomId);
+            throw new BaseException(ErrorCode.CHAT_WRITE_QUEUE_FULL);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stripes.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+}
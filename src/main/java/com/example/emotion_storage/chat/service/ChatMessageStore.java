@@ -3,18 +3,25 @@ package com.example.emotion_storage.chat.service;
 import com.example.emotion_storage.chat.domain.Chat;
 import com.example.emotion_storage.chat.domain.ChatRoom;
 import com.example.emotion_storage.chat.domain.SenderType;
+import com.example.emotion_storage.chat.dto.ChatWriteDto;
 import com.example.emotion_storage.chat.dto.GaugeDto;
 import com.example.emotion_storage.chat.dto.UserMessageDto;
 import com.example.emotion_storage.chat.repository.ChatRepository;
 import com.example.emotion_storage.chat.repository.ChatRoomRepository;
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.user.domain.User;
 import com.example.emotion_storage.user.repository.UserRepository;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,70 +30,90 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChatMessageStore {
 
-    // 날짜 포맷 상수
-    private static final String TIMESTAMP_FORMAT = "yyyy-MM-dd HH:mm:ss.SSS";
-
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRepository chatRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void saveUserMessage(UserMessageDto userMessage, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+        ChatWriteDto write = prepareUserMessage(userMessage, userId);
+        saveAll(List.of(write));
+        log.debug("채팅방 {}에 사용자 메시지 저장 완료", userMessage.roomId());
+    }
 
+    /**
+     * 사용자 메시지를 AI 서버로 보내기 전에 채팅방·사용자를 확인하고 첫 채팅 시각 기록과 티켓 차감을 반영한다.
+     * 반환한 저장 요청은 채팅 행 insert만 남은 상태이므로 write-behind 큐에 넣어도 된다.
+     */
+    @Transactional
+    public ChatWriteDto prepareUserMessage(UserMessageDto userMessage, Long userId) {
         ChatRoom chatRoom = chatRoomRepository.findById(userMessage.roomId())
                 .orElseThrow(() -> new BaseException(ErrorCode.CHAT_ROOM_NOT_FOUND));
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+        ChatWriteDto write = ChatWriteDto.ofUserMessage(userMessage, userId);
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(TIMESTAMP_FORMAT);
-
-        // 첫 채팅 시각 기록 및 티켓 차감
+        // 티켓 차감 및 첫 채팅 시각 기록
         if (chatRoom.getFirstChatTime() == null) {
-            log.info("채팅방 {}의 첫 채팅시각을 기록합니다.", chatRoom.getId());
-            LocalDateTime firstChatTime = LocalDateTime.parse(userMessage.timestamp(), formatter);
-            chatRoom.setFirstChatTime(firstChatTime);
-
             log.info("대화를 시작하여 사용자 {}의 티켓을 차감합니다.", userId);
             user.useTicket();
-        }
-
-        log.info("채팅방 {}에 전송된 사용자 메시지를 저장합니다.", userMessage.roomId());
-        Chat chat = Chat.builder()
-                .chatRoom(chatRoom)
-                .message(userMessage.content())
-                .sender(SenderType.USER)
-                .chatTime(LocalDateTime.parse(userMessage.timestamp(), formatter))
-                .build();
-
-        chatRepository.save(chat);
 
-        log.debug("채팅방 {}에 사용자 메시지 저장 완료", userMessage.roomId());
+            log.info("채팅방 {}의 첫 채팅시각을 기록합니다.", chatRoom.getId());
+            chatRoom.setFirstChatTime(write.chatTime());
+            eventPublisher.publishEvent(new HomeCountersChangedEvent(user.getId()));
+        }
+        return write;
     }
 
     @Transactional
     public void saveAiMessage(Long roomId, String message, String timestamp, GaugeDto gauge) {
-        ChatRoom chatRoom = chatRoomRepository.findById(roomId)
-                .orElseThrow(() -> new BaseException(ErrorCode.CHAT_ROOM_NOT_FOUND));
-
-        // AI 서버에서 받은 timestamp는 ISO 형식 (예: 2025-10-10T00:40:02.230468)
-        LocalDateTime chatTime = LocalDateTime.parse(timestamp);
-
-        log.info("채팅방 {}에 전송된 AI 메시지를 저장합니다.", roomId);
-        Chat chat = Chat.builder()
-                .chatRoom(chatRoom)
-                .message(message)
-                .sender(SenderType.MOOI)
-                .chatTime(chatTime)
-                .build();
+        saveAll(List.of(ChatWriteDto.ofAiMessage(roomId, message, timestamp, gauge)));
+        log.debug("채팅방 {}에 AI 메시지 저장 완료", roomId);
+    }
 
-        chatRepository.save(chat);
+    /**
+     * 여러 채팅을 한 트랜잭션에서 저장한다.
+     * 사용자 메시지는 {@link #prepareUserMessage}에서 검증을 마친 것만 들어오므로 여기서는 행 insert와 gauge 반영만 한다.
+     * 채팅방은 묶음 단위로 한 번씩만 조회하고, 채팅방별로 들어온 순서대로 반영한다.
+     */
+    @Transactional
+    public void saveAll(List<ChatWriteDto> writes) {
+        Map<Long, ChatRoom> chatRooms = chatRoomRepository.findAllById(
+                        writes.stream().map(ChatWriteDto::roomId).distinct().toList()).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+
+        Map<Long, List<ChatWriteDto>> writesByRoom = writes.stream()
+                .collect(Collectors.groupingBy(ChatWriteDto::roomId, LinkedHashMap::new, Collectors.toList()));
+
+        List<Chat> chats = new ArrayList<>(writes.size());
+        writesByRoom.forEach((roomId, roomWrites) -> {
+            ChatRoom chatRoom = chatRooms.get(roomId);
+            if (chatRoom == null) {
+                throw new BaseException(ErrorCode.CHAT_ROOM_NOT_FOUND);
+            }
+            for (ChatWriteDto write : roomWrites) {
+                chats.add(toChat(chatRoom, write));
+            }
+        });
+
+        chatRepository.saveAll(chats);
+        log.info("채팅 {}건을 저장했습니다. (채팅방 {}개)", chats.size(), writesByRoom.size());
+    }
 
+    private Chat toChat(ChatRoom chatRoom, ChatWriteDto write) {
         // gauge 값이 있으면 ChatRoom에 저장
-        if (gauge != null) {
-            log.info("채팅방 {}의 gauge 값을 업데이트합니다: {}", roomId, gauge.getGaugeScore());
-            chatRoom.updateGauge(gauge.getGaugeScore());
+        if (write.gauge() != null) {
+            log.info("채팅방 {}의 gauge 값을 업데이트합니다: {}", chatRoom.getId(), write.gauge().getGaugeScore());
+            chatRoom.updateGauge(write.gauge().getGaugeScore());
         }
 
-        log.debug("채팅방 {}에 AI 메시지 저장 완료", roomId);
+        return Chat.builder()
+                .chatRoom(chatRoom)
+                .message(write.message())
+                .sender(write.sender())
+                .chatTime(write.chatTime())
+                .sentenceOffsets(write.sender() == SenderType.MOOI ? AiSentenceSplitter.encodeOffsets(write.message()) : null)
+                .build();
     }
 }
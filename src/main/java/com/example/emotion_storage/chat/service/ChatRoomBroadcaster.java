@@ -0,0 +1,117 @@
+package com.example.emotion_storage.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+/**
+ * 채팅방(/sub/chatroom/{id})으로 나가는 메시지의 단일 발행 지점
+ * Redis fan-out이 켜져 있으면 채팅방별 Redis 채널로 발행하고, 각 노드는 자신이 구독자를 가진 채팅방의 채널만 구독해
+ * 로컬 SimpleBroker로 다시 전달한다. 꺼져 있으면 기존처럼 로컬 브로커로 바로 보낸다.
+ */
+@Slf4j
+@Component
+public class ChatRoomBroadcaster implements MessageListener, ChatRoomSubscriptionRegistry.Listener {
+
+    private static final String WEBSOCKET_DESTINATION_PREFIX = "/sub/chatroom/";
+    private static final String REDIS_CHANNEL_PREFIX = "chat:room:";
+    private static final char CONTENT_TYPE_DELIMITER = '\n';
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomSubscriptionRegistry subscriptionRegistry;
+    private final ObjectProvider<RedisTemplate<String, String>> redisTemplateProvider;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisFanoutEnabled;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private RedisMessageListenerContainer listenerContainer;
+
+    public ChatRoomBroadcaster(
+            SimpMessagingTemplate messagingTemplate,
+            ChatRoomSubscriptionRegistry subscriptionRegistry,
+            ObjectProvider<RedisTemplate<String, String>> redisTemplateProvider,
+            ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+            @Value("${chat.broker.redis-fanout.enabled:false}") boolean redisFanoutEnabled
+    ) {
+        this.messagingTemplate = messagingTemplate;
+        this.subscriptionRegistry = subscriptionRegistry;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisFanoutEnabled = redisFanoutEnabled;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!redisFanoutEnabled) {
+            return;
+        }
+        this.redisTemplate = redisTemplateProvider.getObject();
+        this.listenerContainer = listenerContainerProvider.getObject();
+        subscriptionRegistry.addListener(this);
+        log.info("채팅방 메시지 Redis fan-out을 사용합니다.");
+    }
+
+    public void send(Long roomId, Object payload) {
+        if (!redisFanoutEnabled) {
+            messagingTemplate.convertAndSend(WEBSOCKET_DESTINATION_PREFIX + roomId, payload);
+            return;
+        }
+
+        // 발행 노드에서 한 번만 직렬화하고, 수신 노드는 바이트를 그대로 로컬 브로커에 넘긴다.
+        org.springframework.messaging.Message<?> converted = messagingTemplate.getMessageConverter().toMessage(payload, null);
+        if (converted == null) {
+            throw new IllegalStateException("채팅방 메시지를 직렬화할 수 없습니다: " + payload.getClass().getName());
+        }
+        MimeType contentType = converted.getHeaders().get(MessageHeaders.CONTENT_TYPE, MimeType.class);
+        String body = new String((byte[]) converted.getPayload(), StandardCharsets.UTF_8);
+
+        redisTemplate.convertAndSend(REDIS_CHANNEL_PREFIX + roomId,
+                (contentType != null ? contentType.toString() : "") + CONTENT_TYPE_DELIMITER + body);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        Long roomId = Long.parseLong(channel.substring(REDIS_CHANNEL_PREFIX.length()));
+        if (!subscriptionRegistry.isHosted(roomId)) {
+            return;
+        }
+
+        String raw = new String(message.getBody(), StandardCharsets.UTF_8);
+        int delimiterIndex = raw.indexOf(CONTENT_TYPE_DELIMITER);
+        String contentType = raw.substring(0, delimiterIndex);
+        byte[] body = raw.substring(delimiterIndex + 1).getBytes(StandardCharsets.UTF_8);
+
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        if (!contentType.isEmpty()) {
+            accessor.setContentType(MimeType.valueOf(contentType));
+        }
+        accessor.setLeaveMutable(true);
+        messagingTemplate.send(WEBSOCKET_DESTINATION_PREFIX + roomId,
+                MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+    }
+
+    @Override
+    public void onFirstSubscriber(Long roomId) {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REDIS_CHANNEL_PREFIX + roomId));
+    }
+
+    @Override
+    public void onLastSubscriberRemoved(Long roomId) {
+        listenerContainer.removeMessageListener(this, new ChannelTopic(REDIS_CHANNEL_PREFIX + roomId));
+    }
+}
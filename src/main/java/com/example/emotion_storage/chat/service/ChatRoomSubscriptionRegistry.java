@@ -0,0 +1,127 @@
+package com.example.emotion_storage.chat.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * 이 노드에 붙어 있는 STOMP 세션의 채팅방 구독 현황
+ * 채팅방별 구독자 수를 세고, 첫 구독자가 생기거나 마지막 구독자가 빠질 때 리스너에게 알린다.
+ * 구독 현황은 Redis fan-out에서만 쓰므로 fan-out이 꺼져 있으면 구독 이벤트를 세지 않는다.
+ */
+@Slf4j
+@Component
+public class ChatRoomSubscriptionRegistry {
+
+    private static final String CHAT_ROOM_DESTINATION_PREFIX = "/sub/chatroom/";
+
+    // STOMP 세션 ID -> (구독 ID -> 채팅방 ID)
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+    // 채팅방 ID -> 이 노드의 구독자 수
+    private final Map<Long, Integer> roomSubscriberCounts = new ConcurrentHashMap<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final boolean enabled;
+
+    public ChatRoomSubscriptionRegistry(@Value("${chat.broker.redis-fanout.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public interface Listener {
+        void onFirstSubscriber(Long roomId);
+
+        void onLastSubscriberRemoved(Long roomId);
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public boolean isHosted(Long roomId) {
+        return roomSubscriberCounts.containsKey(roomId);
+    }
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = parseRoomId(accessor.getDestination());
+        if (roomId == null || accessor.getSessionId() == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long previousRoomId = sessionSubscriptions
+                .computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), roomId);
+        if (previousRoomId != null) {
+            decrement(previousRoomId);
+        }
+        increment(roomId);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        if (!enabled) {
+            return;
+        }
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, Long> subscriptions = sessionSubscriptions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        Long roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            decrement(roomId);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        if (!enabled) {
+            return;
+        }
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    private synchronized void increment(Long roomId) {
+        Integer count = roomSubscriberCounts.merge(roomId, 1, Integer::sum);
+        if (count == 1) {
+            log.debug("[채팅방:{}] 이 노드의 첫 구독자가 등록되었습니다.", roomId);
+            listeners.forEach(listener -> listener.onFirstSubscriber(roomId));
+        }
+    }
+
+    private synchronized void decrement(Long roomId) {
+        Integer count = roomSubscriberCounts.computeIfPresent(roomId, (id, current) -> current > 1 ? current - 1 : null);
+        if (count == null) {
+            log.debug("[채팅방:{}] 이 노드의 마지막 구독자가 해제되었습니다.", roomId);
+            listeners.forEach(listener -> listener.onLastSubscriberRemoved(roomId));
+        }
+    }
+
+    private Long parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(CHAT_ROOM_DESTINATION_PREFIX)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(destination.substring(CHAT_ROOM_DESTINATION_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            log.warn("채팅방 구독 경로를 해석할 수 없습니다: {}", destination);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.emotion_storage.chat.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅방별로 아직 끝나지 않은 작업(커밋 전 write-behind 저장, 응답 대기 중인 AI 요청) 수를 센다.
+ * 작업이 하나도 남지 않은 채팅방만 대화 기록이 확정된 것으로 보고, 마지막 작업이 끝나면
+ * 그 사이 다른 노드가 채웠을 수 있는 대화 기록 캐시를 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomWriteTracker {
+
+    private final ClosedRoomHistoryCache closedRoomHistoryCache;
+
+    // 채팅방 ID -> 끝나지 않은 작업 수
+    private final Map<Long, Integer> pendingByRoom = new ConcurrentHashMap<>();
+
+    public void begin(Long roomId) {
+        pendingByRoom.merge(roomId, 1, Integer::sum);
+    }
+
+    public void end(Long roomId) {
+        boolean[] settled = new boolean[1];
+        pendingByRoom.computeIfPresent(roomId, (id, count) -> {
+            if (count > 1) {
+                return count - 1;
+            }
+            settled[0] = true;
+            return null;
+        });
+        if (settled[0]) {
+            closedRoomHistoryCache.evict(roomId);
+        }
+    }
+
+    public boolean isSettled(Long roomId) {
+        return !pendingByRoom.containsKey(roomId);
+    }
+}
@@ -1,14 +1,18 @@
 package com.example.emotion_storage.chat.service;
 
-import com.example.emotion_storage.chat.domain.Chat;
 import com.example.emotion_storage.chat.domain.ChatRoom;
 import com.example.emotion_storage.chat.domain.SenderType;
+import com.example.emotion_storage.chat.dto.ChatHistoryRow;
 import com.example.emotion_storage.chat.dto.ChatPromptMessages;
+import com.example.emotion_storage.chat.dto.ChatWriteDto;
+import com.example.emotion_storage.chat.dto.RoomChatHistoryRow;
 import com.example.emotion_storage.chat.dto.UserMessageDto;
 import com.example.emotion_storage.chat.dto.response.ChatDto;
 import com.example.emotion_storage.chat.dto.response.ChatRoomCloseResponse;
 import com.example.emotion_storage.chat.dto.response.ChatRoomCreateResponse;
 import com.example.emotion_storage.chat.dto.response.ChatRoomTempSaveResponse;
+import com.example.emotion_storage.chat.dto.response.ChatSliceResponse;
+import com.example.emotion_storage.chat.dto.response.RoomSliceResponse;
 import com.example.emotion_storage.chat.dto.response.RoomWithChatsDto;
 import com.example.emotion_storage.chat.dto.response.SingleRoomSliceResponse;
 import com.example.emotion_storage.chat.repository.ChatRepository;
@@ -17,18 +21,20 @@ import com.example.emotion_storage.global.api.ApiResponse;
 import com.example.emotion_storage.global.api.SuccessMessage;
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.global.util.ChatTimestampCodec;
 import com.example.emotion_storage.user.domain.User;
 import com.example.emotion_storage.user.repository.UserRepository;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.example.emotion_storage.chat.dto.AiMessageDto;
@@ -49,24 +55,26 @@ public class ChatService {
     private static final String ERROR_MESSAGE_PROCESSING = "메시지 처리 중 오류가 발생했습니다.";
     private static final String INFO_MESSAGE_PROCESSING = "메시지를 받았습니다. AI가 응답을 준비 중입니다...";
     
+    // 채팅 기록 페이지 크기 상수
+    private static final int DEFAULT_CHAT_PAGE_SIZE = 50;
+    private static final int MAX_CHAT_PAGE_SIZE = 100;
+    private static final int DEFAULT_ROOM_PAGE_SIZE = 5;
+    private static final int MAX_ROOM_PAGE_SIZE = 20;
+
     // 메시지 타입 상수
     private static final String MESSAGE_TYPE_ERROR = "chat.error";
     
-    // WebSocket 엔드포인트 상수
-    private static final String WEBSOCKET_DESTINATION_PREFIX = "/sub/chatroom/";
-    
-    // 세션 ID 포맷 상수
-    private static final String SESSION_ID_FORMAT = "session-%d-%d";
-
-    // AI 메시지 분리 상수
-    private static final String AI_SENTENCE_SPLIT_REGEX = "(?<=[.!?！？])";
-
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
     private final UserRepository userRepository;
     private final ChatRoomRepository chatRoomRepository;
     private final ChatRepository chatRepository;
     private final WebSocketClientService webSocketClientService;
     private final ChatMessageStore chatMessageStore;
+    private final ChatWriteBehindQueue chatWriteBehindQueue;
+    private final StreamingDeltaBatcher streamingDeltaBatcher;
+    private final ClosedRoomHistoryCache closedRoomHistoryCache;
+    private final ChatRoomWriteTracker chatRoomWriteTracker;
+    private final ChatInboundExecutor chatInboundExecutor;
 
     @Transactional
     public ChatRoomCreateResponse createChatRoom(Long userId) {
@@ -189,62 +197,59 @@ public class ChatService {
     }
 
     public void sendToUser(Long roomId, String message) {
-        messagingTemplate.convertAndSend(WEBSOCKET_DESTINATION_PREFIX + roomId, message);
+        chatRoomBroadcaster.send(roomId, message);
         log.debug("채팅방 {}로 메시지 전송 완료", roomId);
     }
 
     public void sendToUser(Long roomId, ChatMessageResponse response) {
-        messagingTemplate.convertAndSend(WEBSOCKET_DESTINATION_PREFIX + roomId, response);
+        chatRoomBroadcaster.send(roomId, response);
         log.debug("채팅방 {}로 응답 전송 완료: sender={}, messageType={}",
                 roomId, response.getSender(), response.getMessageType());
     }
 
     public void sendStreamingDelta(Long roomId, String sessionId, String deltaText) {
-        ChatMessageResponse response = ChatMessageResponse.builder()
-                .content(deltaText)
-                .sender(SenderType.MOOI)
-                .roomId(roomId)
-                .sessionId(sessionId)
-                .timestamp(LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME))
-                .messageType("chat.delta")
-                .build();
-
-        messagingTemplate.convertAndSend(WEBSOCKET_DESTINATION_PREFIX + roomId, response);
-        log.debug("[채팅방:{}] 스트리밍 delta 전송: deltaText={} (길이: {})", 
-                roomId, deltaText, deltaText.length());
+        streamingDeltaBatcher.append(roomId, sessionId, deltaText);
     }
 
     public Long extractRoomIdFromSessionId(String sessionId) {
-        if (sessionId == null || !sessionId.startsWith("session-")) {
-            return null;
-        }
-        try {
-            String[] parts = sessionId.split("-");
-            if (parts.length >= 3) {
-                return Long.parseLong(parts[2]);
-            }
-        } catch (NumberFormatException e) {
-            log.warn("sessionId에서 roomId 추출 실패: {}", sessionId, e);
-        }
-        return null;
+        return ChatSessionIds.extractRoomId(sessionId);
     }
 
-    private String generateSessionId(Long userId, Long roomId) {
-        return String.format(SESSION_ID_FORMAT, userId, roomId);
+    /**
+     * 채팅방 조회와 티켓 차감 같은 DB 작업이 STOMP inbound 스레드를 붙잡지 않도록 별도 스레드에서 처리한다.
+     * 처리 중 실패하면 채팅방으로 오류 메시지를 보낸다.
+     */
+    public void processUserMessageAsync(UserMessageDto userMessage, Long userId) {
+        Long roomId = userMessage.roomId();
+        chatInboundExecutor.execute(roomId, () -> {
+            try {
+                processUserMessage(userMessage, userId);
+            } catch (BaseException e) {
+                log.warn("[채팅방:{}] 사용자 {}의 메시지 처리 실패: {}", roomId, userId, e.getMessage());
+                // 다른 사용자의 채팅방으로는 오류를 보내지 않는다.
+                if (e.getErrorCode() != ErrorCode.CHAT_ROOM_ACCESS_DENIED) {
+                    sendToUser(roomId, errorResponse(roomId, ChatSessionIds.format(userId, roomId), e.getMessage()));
+                }
+            } catch (Exception e) {
+                log.error("[채팅방:{}] 메시지 처리 중 오류 발생", roomId, e);
+                sendToUser(roomId, errorResponse(roomId, ChatSessionIds.format(userId, roomId), ERROR_MESSAGE_TEMPORARY));
+            }
+        });
     }
 
-    public void processUserMessageAsync(UserMessageDto userMessage, Long userId) {
+    private void processUserMessage(UserMessageDto userMessage, Long userId) {
         Long roomId = userMessage.roomId();
 
-        ChatRoom chatRoom = chatRoomRepository.findByIdAndUser_Id(roomId, userId)
+        chatRoomRepository.findByIdAndUser_Id(roomId, userId)
                 .orElseThrow(() -> new BaseException(ErrorCode.CHAT_ROOM_ACCESS_DENIED));
-        
-        // 1. 사용자 메시지 저장
-        chatMessageStore.saveUserMessage(userMessage, userId);
-        log.info("[채팅방:{}] 사용자 메시지 저장 완료", roomId);
+
+        // 1. 사용자 메시지 검증 및 티켓 차감은 AI 전송 전에 동기로 반영하고, 채팅 행 저장만 write-behind 큐에 넣는다
+        ChatWriteDto userWrite = chatMessageStore.prepareUserMessage(userMessage, userId);
+        chatWriteBehindQueue.enqueue(userWrite);
+        log.info("[채팅방:{}] 사용자 메시지 저장 요청 완료", roomId);
 
         // 2. AI 서버로 메시지 전송
-        String sessionId = generateSessionId(userId, roomId);
+        String sessionId = ChatSessionIds.format(userId, roomId);
         log.info("[채팅방:{}] 사용자 {}의 메시지를 AI 서버로 전송합니다: {}", roomId, userId, userMessage.content());
 
         AiMessageDto aiMessage = AiMessageDto.createChatStartMessage(
@@ -254,13 +259,16 @@ public class ChatService {
         );
 
         // 3, 4. 비동기로 AI 응답 처리 및 저장, 전송
+        // AI 응답이 저장 큐에 들어갈 때까지 채팅방 기록이 확정되지 않은 것으로 본다.
+        chatRoomWriteTracker.begin(roomId);
         webSocketClientService.sendMessageToAI(aiMessage)
                 .thenAccept(aiResponse -> {
                     log.info("[채팅방:{}] AI 서버로부터 응답을 받았습니다: {}", roomId, aiResponse.getResponse());
 
-                    // AI 메시지 저장
+                    // AI 메시지 저장. 다시 받을 수 없는 응답이므로 큐가 가득 차면 이 스레드에서 저장한다.
                     try {
-                        chatMessageStore.saveAiMessage(roomId, aiResponse.getResponse(), aiResponse.getTimestamp(), aiResponse.getGauge());
+                        chatWriteBehindQueue.enqueueOrWrite(ChatWriteDto.ofAiMessage(
+                                roomId, aiResponse.getResponse(), aiResponse.getTimestamp(), aiResponse.getGauge()));
                     } catch (Exception e) {
                         log.error("[채팅방:{}] AI 메시지 저장 중 오류 발생", roomId, e);
                     }
@@ -275,25 +283,30 @@ public class ChatService {
                             .messageType(aiResponse.getType())
                             .build();
 
-                    // WebSocket을 통해 클라이언트에게 AI 응답 전송
+                    // 남은 delta를 먼저 보낸 뒤 WebSocket을 통해 클라이언트에게 AI 응답 전송
+                    streamingDeltaBatcher.flush(roomId);
                     sendToUser(roomId, response);
                 })
                 .exceptionally(throwable -> {
                     log.error("[채팅방:{}] AI 서버 통신 중 오류 발생", roomId, throwable);
 
-                    ChatMessageResponse errorResponse = ChatMessageResponse.builder()
-                            .content(ERROR_MESSAGE_TEMPORARY)
-                            .sender(SenderType.MOOI)
-                            .roomId(roomId)
-                            .sessionId(sessionId)
-                            .timestamp(LocalDateTime.now().toString())
-                            .messageType(MESSAGE_TYPE_ERROR)
-                            .build();
-
-                    sendToUser(roomId, errorResponse);
+                    streamingDeltaBatcher.flush(roomId);
+                    sendToUser(roomId, errorResponse(roomId, sessionId, ERROR_MESSAGE_TEMPORARY));
 
                     return null;
-                });
+                })
+                .whenComplete((ignored, throwable) -> chatRoomWriteTracker.end(roomId));
+    }
+
+    private ChatMessageResponse errorResponse(Long roomId, String sessionId, String content) {
+        return ChatMessageResponse.builder()
+                .content(content)
+                .sender(SenderType.MOOI)
+                .roomId(roomId)
+                .sessionId(sessionId)
+                .timestamp(LocalDateTime.now().toString())
+                .messageType(MESSAGE_TYPE_ERROR)
+                .build();
     }
 
 
@@ -348,7 +361,7 @@ public class ChatService {
             AiChatResponse response = new AiChatResponse(
                     INFO_MESSAGE_PROCESSING,
                     sessionId,
-                    LocalDateTime.now().format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                    ChatTimestampCodec.formatIso(LocalDateTime.now()),
                     false
             );
 
@@ -381,67 +394,142 @@ public class ChatService {
 
     @Transactional(readOnly = true)
     public SingleRoomSliceResponse getMessagesInChatRoom(Long userId, Long cursorId) {
-        final int size = 1; // 한 개의 방만 반환
+        RoomSliceResponse slice = getRoomsWithChats(userId, cursorId, 1); // 한 개의 방만 반환
+        if (slice.rooms().isEmpty()) {
+            log.info("조회 가능한 채팅방이 존재하지 않기 때문에 빈 응답을 반환합니다.");
+            return new SingleRoomSliceResponse(null, null, false);
+        }
+        return new SingleRoomSliceResponse(slice.rooms().get(0), slice.nextCursor(), slice.hasNext());
+    }
+
+    /**
+     * 최신 채팅방부터 size개의 채팅방을 채팅과 함께 조회한다.
+     * 채팅방 목록 1번, 캐시에 없는 채팅방들의 채팅을 IN 조건으로 1번 조회해 채팅방 수와 관계없이 쿼리가 2번을 넘지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public RoomSliceResponse getRoomsWithChats(Long userId, Long cursorId, Integer size) {
+        int pageSize = size == null ? DEFAULT_ROOM_PAGE_SIZE : Math.max(1, Math.min(size, MAX_ROOM_PAGE_SIZE));
 
-        log.info("사용자 {}가 커서 아이디 {}를 통해 채팅방 조회를 요청했습니다.", userId, cursorId);
+        log.info("사용자 {}가 커서 아이디 {}를 통해 채팅방 {}개 조회를 요청했습니다.", userId, cursorId, pageSize);
         List<ChatRoom> fetched = chatRoomRepository.fetchRoomsSlice(
-                userId, cursorId, PageRequest.of(0, size + 1)
+                userId, cursorId, PageRequest.of(0, pageSize + 1)
         );
 
-        log.info("조회된 채팅방 개수를 바탕으로 hasNext를 판단합니다.");
-        boolean hasNext = fetched.size() > size;
+        boolean hasNext = fetched.size() > pageSize;
         if (hasNext) {
-            fetched = fetched.subList(0, size);
+            fetched = fetched.subList(0, pageSize);
         }
         if (fetched.isEmpty()) {
-            log.info("조회 가능한 채팅방이 존재하지 않기 때문에 빈 응답을 반환합니다.");
-            return new SingleRoomSliceResponse(null, null, false);
+            return new RoomSliceResponse(List.of(), null, false);
+        }
+
+        // 종료된 채팅방은 더 이상 채팅이 추가되지 않으므로 렌더링 결과를 캐시한다.
+        // 종료 직후에도 AI 응답을 기다리거나 저장이 커밋되지 않았을 수 있어, 남은 작업이 없는 채팅방만 캐시를 사용한다.
+        Map<Long, RoomWithChatsDto> cachedRooms = new HashMap<>();
+        List<Long> roomIdsToLoad = new ArrayList<>();
+        for (ChatRoom chatRoom : fetched) {
+            RoomWithChatsDto cached = isHistoryCacheable(chatRoom)
+                    ? closedRoomHistoryCache.getIfPresent(chatRoom.getId())
+                    : null;
+            if (cached != null) {
+                cachedRooms.put(chatRoom.getId(), cached);
+            } else {
+                roomIdsToLoad.add(chatRoom.getId());
+            }
         }
 
-        ChatRoom chatRoom = fetched.get(0);
-        log.info("채팅방 {}가 조회되었습니다.", chatRoom.getId());
+        Map<Long, List<ChatDto>> chatsByRoomId = roomIdsToLoad.isEmpty()
+                ? Map.of()
+                : chatRepository.findHistoryByRoomIds(roomIdsToLoad).stream()
+                        .collect(Collectors.groupingBy(
+                                RoomChatHistoryRow::roomId,
+                                Collectors.flatMapping(row -> toChatDtoStream(row.toHistoryRow()), Collectors.toList())
+                        ));
+
+        List<RoomWithChatsDto> rooms = new ArrayList<>(fetched.size());
+        for (ChatRoom chatRoom : fetched) {
+            RoomWithChatsDto roomWithChats = cachedRooms.get(chatRoom.getId());
+            if (roomWithChats == null) {
+                List<ChatDto> chats = chatsByRoomId.getOrDefault(chatRoom.getId(), List.of());
+                roomWithChats = new RoomWithChatsDto(
+                        chatRoom.getId(), chatRoom.getFirstChatTime(), chats.size(), chatRoom.getGauge(), chats
+                );
+                if (isHistoryCacheable(chatRoom)) {
+                    closedRoomHistoryCache.put(chatRoom.getId(), roomWithChats);
+                }
+            }
+            rooms.add(roomWithChats);
+        }
+
+        Long nextCursor = hasNext ? fetched.get(fetched.size() - 1).getId() : null;
+
+        log.info("채팅방 {}개(캐시 {}개)의 모든 채팅을 포함한 응답을 반환합니다.", rooms.size(), cachedRooms.size());
+        return new RoomSliceResponse(rooms, nextCursor, hasNext);
+    }
+
+    private boolean isHistoryCacheable(ChatRoom chatRoom) {
+        return chatRoom.isEnded() && chatRoomWriteTracker.isSettled(chatRoom.getId());
+    }
+
+    /**
+     * 채팅방 안의 채팅을 (chatTime, id) 키셋 커서로 오래된 순서부터 나눠 조회한다.
+     */
+    @Transactional(readOnly = true)
+    public ChatSliceResponse getChatsInRoom(
+            Long userId, Long roomId, LocalDateTime cursorTime, Long cursorId, Integer size
+    ) {
+        chatRoomRepository.findByIdAndUser_Id(roomId, userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CHAT_ROOM_ACCESS_DENIED));
 
-        List<ChatDto> chats = chatRepository.findAllByRoomIdOrderByTimeAsc(chatRoom.getId())
-                .stream()
+        int pageSize = size == null ? DEFAULT_CHAT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_CHAT_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        log.info("사용자 {}가 채팅방 {}의 채팅을 커서 ({}, {})부터 조회합니다.", userId, roomId, cursorTime, cursorId);
+        List<ChatHistoryRow> rows = (cursorTime == null || cursorId == null)
+                ? chatRepository.findHistoryByRoomId(roomId, pageRequest)
+                : chatRepository.findHistoryByRoomIdAfter(roomId, cursorTime, cursorId, pageRequest);
+
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<ChatDto> chats = rows.stream()
                 .flatMap(this::toChatDtoStream)
                 .toList();
 
-        RoomWithChatsDto roomWithChats = new RoomWithChatsDto(
-                chatRoom.getId(), chatRoom.getFirstChatTime(), chats.size(), chatRoom.getGauge(), chats
+        ChatHistoryRow last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return new ChatSliceResponse(
+                roomId,
+                chats,
+                hasNext ? last.chatTime() : null,
+                hasNext ? last.id() : null,
+                hasNext
         );
-
-        Long nextCursor = hasNext ? chatRoom.getId() : null;
-
-        log.info("채팅방 {}의 모든 채팅을 포함한 응답을 반환합니다.", chatRoom.getId());
-        return new SingleRoomSliceResponse(roomWithChats, nextCursor, hasNext);
     }
 
-    private Stream<ChatDto> toChatDtoStream(Chat chat) {
-        if (chat.getSender() == SenderType.USER) {
-            return Stream.of(ChatDto.from(chat));
+    private Stream<ChatDto> toChatDtoStream(ChatHistoryRow row) {
+        if (row.sender() == SenderType.USER) {
+            return Stream.of(ChatDto.from(row));
         }
-        return splitAiChat(chat).stream();
+        return splitAiChat(row).stream();
     }
 
-    private List<ChatDto> splitAiChat(Chat chat) {
-        String message = chat.getMessage();
+    private List<ChatDto> splitAiChat(ChatHistoryRow row) {
+        String message = row.message();
         if (message == null || message.isBlank()) {
-            return List.of(ChatDto.from(chat));
+            return List.of(ChatDto.from(row));
         }
 
-        String[] chunks = message.split(AI_SENTENCE_SPLIT_REGEX);
         List<ChatDto> chats = new ArrayList<>();
 
-        LocalDateTime baseTime = chat.getChatTime();
+        LocalDateTime baseTime = row.chatTime();
         int i = 1;
 
-        for (String chunk : chunks) {
-            String trimmed = chunk.trim();
-            if (trimmed.isEmpty()) continue;
-
+        for (String sentence : AiSentenceSplitter.sentencesOf(message, row.sentenceOffsets())) {
             chats.add(new ChatDto(
-                    chat.getId(), chat.getId().toString() + "-" + i,
-                    chat.getSender().name(), trimmed, baseTime.plusNanos(i++)
+                    row.id(), row.id().toString() + "-" + i,
+                    row.sender().name(), sentence, baseTime.plusNanos(i++)
             ));
         }
         return chats;
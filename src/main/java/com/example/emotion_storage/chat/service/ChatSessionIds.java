@@ -0,0 +1,35 @@
+package com.example.emotion_storage.chat.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 서버와 주고받는 세션 ID("session-{userId}-{roomId}") 생성과 해석
+ */
+@Slf4j
+final class ChatSessionIds {
+
+    private static final String SESSION_ID_PREFIX = "session-";
+    private static final String SESSION_ID_FORMAT = "session-%d-%d";
+
+    private ChatSessionIds() {
+    }
+
+    static String format(Long userId, Long roomId) {
+        return String.format(SESSION_ID_FORMAT, userId, roomId);
+    }
+
+    static Long extractRoomId(String sessionId) {
+        if (sessionId == null || !sessionId.startsWith(SESSION_ID_PREFIX)) {
+            return null;
+        }
+        try {
+            String[] parts = sessionId.split("-");
+            if (parts.length >= 3) {
+                return Long.parseLong(parts[2]);
+            }
+        } catch (NumberFormatException e) {
+            log.warn("sessionId에서 roomId 추출 실패: {}", sessionId, e);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.chat.dto.ChatWriteDto;
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 채팅 저장을 STOMP/AI 응답 스레드에서 떼어내는 write-behind 큐
+ * 단일 작업 스레드가 큐를 비우며 묶음 단위로 저장하므로 채팅방 안의 저장 순서가 유지된다.
+ * 큐가 가득 차면 잠시 기다린 뒤에도 자리가 없을 때 요청을 거절하고, 일시적인 저장 실패만 재시도하며, 종료 시 남은 채팅을 모두 저장한다.
+ * 다시 요청받을 수 없는 AI 응답은 거절하는 대신 호출 스레드에서 저장한다.
+ */
+@Slf4j
+@Component
+public class ChatWriteBehindQueue {
+
+    private final ChatMessageStore chatMessageStore;
+    private final ChatRoomWriteTracker chatRoomWriteTracker;
+    private final BlockingQueue<ChatWriteDto> queue;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long enqueueTimeoutMillis;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+
+    // 종료가 시작된 뒤에는 큐에 넣지 않도록, 큐에 넣는 동안에는 읽기 락을, 종료 표시는 쓰기 락을 잡는다.
+    private final ReadWriteLock lifecycleLock = new ReentrantReadWriteLock();
+
+    private Thread worker;
+    private volatile boolean running;
+
+    public ChatWriteBehindQueue(
+            ChatMessageStore chatMessageStore,
+            ChatRoomWriteTracker chatRoomWriteTracker,
+            @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+            @Value("${chat.write-behind.batch-size:100}") int batchSize,
+            @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${chat.write-behind.enqueue-timeout-ms:100}") long enqueueTimeoutMillis,
+            @Value("${chat.write-behind.max-retries:3}") int maxRetries,
+            @Value("${chat.write-behind.retry-backoff-ms:200}") long retryBackoffMillis
+    ) {
+        this.chatMessageStore = chatMessageStore;
+        this.chatRoomWriteTracker = chatRoomWriteTracker;
+        this.queue = new LinkedBlockingQueue<>(Math.max(1, queueCapacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1, flushIntervalMillis);
+        this.enqueueTimeoutMillis = Math.max(0, enqueueTimeoutMillis);
+        this.maxRetries = Math.max(0, maxRetries);
+        this.retryBackoffMillis = Math.max(0, retryBackoffMillis);
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        worker = new Thread(this::drainLoop, "chat-write-behind");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public void enqueue(ChatWriteDto write) {
+        if (tryEnqueue(write)) {
+            return;
+        }
+
+        // 호출 스레드를 붙잡지 않도록 큐가 가득 차면 요청을 거절한다.
+        log.warn("[채팅방:{}] write-behind 큐가 가득 차 저장 요청을 거절합니다. (대기: {}건)", write.roomId(), queue.size());
+        throw new BaseException(ErrorCode.CHAT_WRITE_QUEUE_FULL);
+    }
+
+    /**
+     * 큐가 가득 차면 거절하지 않고 호출 스레드에서 저장한다.
+     */
+    public void enqueueOrWrite(ChatWriteDto write) {
+        if (tryEnqueue(write)) {
+            return;
+        }
+
+        log.warn("[채팅방:{}] write-behind 큐가 가득 차 호출 스레드에서 저장합니다. (대기: {}건)", write.roomId(), queue.size());
+        chatRoomWriteTracker.begin(write.roomId());
+        writeWithRetry(List.of(write));
+    }
+
+    /**
+     * 큐에 넣었거나 큐가 동작하지 않아 바로 저장했으면 true, 큐가 가득 차 넣지 못했으면 false를 반환한다.
+     */
+    private boolean tryEnqueue(ChatWriteDto write) {
+        lifecycleLock.readLock().lock();
+        try {
+            if (running) {
+                return offer(write);
+            }
+        } finally {
+            lifecycleLock.readLock().unlock();
+        }
+
+        // 작업 스레드가 없거나 종료 중이면 유실 대신 호출 스레드에서 한 번만 저장한다.
+        log.warn("[채팅방:{}] write-behind 큐가 동작하지 않아 즉시 저장합니다.", write.roomId());
+        chatMessageStore.saveAll(List.of(write));
+        return true;
+    }
+
+    private boolean offer(ChatWriteDto write) {
+        // 작업 스레드가 먼저 저장을 끝내도 개수가 어긋나지 않도록 큐에 넣기 전에 기록한다.
+        chatRoomWriteTracker.begin(write.roomId());
+        try {
+            if (queue.offer(write, enqueueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        chatRoomWriteTracker.end(write.roomId());
+        return false;
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 락을 잡은 뒤 종료를 표시하므로, 이미 running을 확인한 enqueue는 아래 flushRemaining 전에 큐에 들어가 있다.
+        lifecycleLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            lifecycleLock.writeLock().unlock();
+        }
+        if (worker != null) {
+            // 저장 중인 JDBC 호출을 끊지 않도록 interrupt 없이 현재 묶음이 끝나기를 기다린다.
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flushRemaining();
+    }
+
+    /**
+     * 큐에 남은 채팅을 현재 스레드에서 모두 저장한다.
+     */
+    public void flushRemaining() {
+        List<ChatWriteDto> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeWithRetry(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            try {
+                ChatWriteDto first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                List<ChatWriteDto> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                writeWithRetry(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("write-behind 작업 스레드에서 예상치 못한 오류가 발생했습니다.", e);
+            }
+        }
+    }
+
+    private void writeWithRetry(List<ChatWriteDto> batch) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            try {
+                chatMessageStore.saveAll(batch);
+                batch.forEach(write -> chatRoomWriteTracker.end(write.roomId()));
+                return;
+            } catch (BaseException e) {
+                // 존재하지 않는 채팅방처럼 다시 시도해도 결과가 같은 오류는 재시도하지 않는다.
+                log.warn("채팅 {}건 저장 실패: {}", batch.size(), e.getMessage());
+                break;
+            } catch (Exception e) {
+                log.warn("채팅 {}건 저장 실패 (시도 {}/{})", batch.size(), attempt + 1, maxRetries + 1, e);
+                if (attempt < maxRetries && !sleepBeforeRetry(attempt)) {
+                    break;
+                }
+            }
+        }
+
+        // 묶음 중 일부만 잘못된 경우 나머지는 살리기 위해 한 건씩 저장한다.
+        if (batch.size() > 1) {
+            batch.forEach(write -> writeWithRetry(List.of(write)));
+            return;
+        }
+        log.error("[채팅방:{}] 채팅 저장에 최종 실패했습니다: sender={}, chatTime={}",
+                batch.get(0).roomId(), batch.get(0).sender(), batch.get(0).chatTime());
+        chatRoomWriteTracker.end(batch.get(0).roomId());
+    }
+
+    private boolean sleepBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(retryBackoffMillis * (attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
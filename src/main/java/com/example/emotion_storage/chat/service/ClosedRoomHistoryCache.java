@@ -0,0 +1,150 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.chat.dto.response.RoomWithChatsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 종료된 채팅방의 렌더링된 대화 기록 캐시
+ * 종료된 채팅방의 채팅은 더 이상 바뀌지 않으므로 RoomWithChatsDto를 gzip으로 압축해 로컬(Caffeine)에 두고,
+ * 설정 시 Redis에도 저장해 다른 노드와 공유한다. 채팅방의 마지막 저장이 끝나면 {@link ChatRoomWriteTracker}가 무효화한다.
+ */
+@Slf4j
+@Component
+public class ClosedRoomHistoryCache {
+
+    private static final String REDIS_KEY_PREFIX = "chat:history:";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, byte[]> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration redisTtl;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public ClosedRoomHistoryCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisTemplate<String, String>> redisTemplateProvider,
+            @Value("${chat.history-cache.local-max-size:1000}") long localMaxSize,
+            @Value("${chat.history-cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${chat.history-cache.redis.ttl-days:7}") long redisTtlDays
+    ) {
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .recordStats()
+                .build();
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getObject() : null;
+        this.redisTtl = Duration.ofDays(redisTtlDays);
+    }
+
+    public record Stats(
+            long localHits, long localMisses, double localHitRate,
+            long redisHits, long redisMisses, long localSize
+    ) {}
+
+    /**
+     * 로컬 -> Redis 순서로 조회하고 없으면 null을 반환한다. Redis에서 찾은 값은 로컬에 채운다.
+     */
+    public RoomWithChatsDto getIfPresent(Long roomId) {
+        byte[] compressed = localCache.getIfPresent(roomId);
+        if (compressed == null) {
+            compressed = readRedis(roomId);
+            if (compressed == null) {
+                return null;
+            }
+            localCache.put(roomId, compressed);
+        }
+        return decompress(compressed);
+    }
+
+    public void put(Long roomId, RoomWithChatsDto room) {
+        byte[] compressed = compress(room);
+        localCache.put(roomId, compressed);
+        writeRedis(roomId, compressed);
+    }
+
+    public void evict(Long roomId) {
+        localCache.invalidate(roomId);
+        if (redisTemplate != null) {
+            try {
+                redisTemplate.delete(REDIS_KEY_PREFIX + roomId);
+            } catch (Exception e) {
+                log.warn("[채팅방:{}] Redis 대화 기록 캐시 삭제에 실패했습니다. TTL 만료까지 이전 값이 남을 수 있습니다.", roomId, e);
+            }
+        }
+        log.debug("[채팅방:{}] 대화 기록 캐시를 무효화했습니다.", roomId);
+    }
+
+    public Stats getStats() {
+        CacheStats stats = localCache.stats();
+        return new Stats(
+                stats.hitCount(), stats.missCount(), stats.hitRate(),
+                redisHits.sum(), redisMisses.sum(), localCache.estimatedSize()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${chat.history-cache.stats-log-interval:600000}")
+    public void logStats() {
+        Stats stats = getStats();
+        log.info("종료된 채팅방 기록 캐시 - 로컬 적중 {}건/미적중 {}건 (적중률 {}%), Redis 적중 {}건/미적중 {}건, 로컬 크기 {}",
+                stats.localHits(), stats.localMisses(), String.format("%.1f", stats.localHitRate() * 100),
+                stats.redisHits(), stats.redisMisses(), stats.localSize());
+    }
+
+    private byte[] readRedis(Long roomId) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        String cached = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + roomId);
+        if (cached == null) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        return Base64.getDecoder().decode(cached);
+    }
+
+    private void writeRedis(Long roomId, byte[] compressed) {
+        if (redisTemplate != null) {
+            redisTemplate.opsForValue().set(
+                    REDIS_KEY_PREFIX + roomId, Base64.getEncoder().encodeToString(compressed), redisTtl);
+        }
+    }
+
+    private byte[] compress(RoomWithChatsDto room) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, room);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대화 기록 캐시 직렬화에 실패했습니다.", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private RoomWithChatsDto decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(gzip, RoomWithChatsDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("대화 기록 캐시 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.emotion_storage.chat.service;
+
+import com.example.emotion_storage.chat.domain.SenderType;
+import com.example.emotion_storage.chat.dto.response.ChatMessageResponse;
+import com.example.emotion_storage.global.util.ChatTimestampCodec;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 스트리밍 delta를 채팅방 단위로 모아서 전송
+ * 버퍼가 일정 길이를 넘거나 짧은 시간 창이 지나면 하나의 chat.delta 메시지로 합쳐 보낸다.
+ */
+@Slf4j
+@Component
+public class StreamingDeltaBatcher {
+
+    private static final String MESSAGE_TYPE_CHAT_DELTA = "chat.delta";
+
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final long flushIntervalMillis;
+    private final int maxBatchChars;
+    private final ThreadPoolTaskScheduler flushScheduler;
+    private final ConcurrentHashMap<Long, RoomBuffer> buffers = new ConcurrentHashMap<>();
+
+    public StreamingDeltaBatcher(
+            ChatRoomBroadcaster chatRoomBroadcaster,
+            @Value("${chat.streaming.flush-interval-ms:40}") long flushIntervalMillis,
+            @Value("${chat.streaming.max-batch-chars:64}") int maxBatchChars
+    ) {
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatchChars = maxBatchChars;
+
+        this.flushScheduler = new ThreadPoolTaskScheduler();
+        this.flushScheduler.setPoolSize(1);
+        this.flushScheduler.setThreadNamePrefix("stream-delta-");
+        this.flushScheduler.initialize();
+    }
+
+    public void append(Long roomId, String sessionId, String deltaText) {
+        if (flushIntervalMillis <= 0) {
+            send(roomId, sessionId, deltaText);
+            return;
+        }
+
+        while (true) {
+            RoomBuffer buffer = buffers.computeIfAbsent(roomId, id -> new RoomBuffer());
+            synchronized (buffer) {
+                // flush(roomId)가 먼저 떼어 간 버퍼면 쓰지 않고 새 버퍼를 다시 읽는다.
+                if (buffer.closed) {
+                    continue;
+                }
+                if (buffer.sessionId != null && !buffer.sessionId.equals(sessionId)) {
+                    flushLocked(roomId, buffer);
+                }
+
+                buffer.sessionId = sessionId;
+                buffer.text.append(deltaText);
+
+                if (buffer.text.length() >= maxBatchChars) {
+                    flushLocked(roomId, buffer);
+                } else if (buffer.scheduledFlush == null) {
+                    buffer.scheduledFlush = flushScheduler.schedule(
+                            () -> flush(roomId, buffer),
+                            Instant.now().plusMillis(flushIntervalMillis)
+                    );
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * 채팅방에 남아 있는 delta를 즉시 전송한다. 최종 응답을 보내기 전에 호출해 순서를 보장한다.
+     * 떼어 낸 버퍼는 닫아 두어, 이미 버퍼를 읽어 간 append가 전송이 끝난 버퍼에 쓰지 않게 한다.
+     */
+    public void flush(Long roomId) {
+        RoomBuffer buffer = buffers.remove(roomId);
+        if (buffer != null) {
+            synchronized (buffer) {
+                buffer.closed = true;
+                flushLocked(roomId, buffer);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        buffers.keySet().forEach(this::flush);
+        flushScheduler.shutdown();
+    }
+
+    private void flush(Long roomId, RoomBuffer buffer) {
+        synchronized (buffer) {
+            flushLocked(roomId, buffer);
+        }
+    }
+
+    private void flushLocked(Long roomId, RoomBuffer buffer) {
+        if (buffer.scheduledFlush != null) {
+            buffer.scheduledFlush.cancel(false);
+            buffer.scheduledFlush = null;
+        }
+        if (buffer.text.isEmpty()) {
+            return;
+        }
+
+        String batchedText = buffer.text.toString();
+        buffer.text.setLength(0);
+        send(roomId, buffer.sessionId, batchedText);
+    }
+
+    private void send(Long roomId, String sessionId, String deltaText) {
+        ChatMessageResponse response = ChatMessageResponse.builder()
+                .content(deltaText)
+                .sender(SenderType.MOOI)
+                .roomId(roomId)
+                .sessionId(sessionId)
+                .timestamp(ChatTimestampCodec.formatIso(LocalDateTime.now()))
+                .messageType(MESSAGE_TYPE_CHAT_DELTA)
+                .build();
+
+        chatRoomBroadcaster.send(roomId, response);
+        log.debug("[채팅방:{}] 스트리밍 delta 전송: deltaText={} (길이: {})",
+                roomId, deltaText, deltaText.length());
+    }
+
+    private static final class RoomBuffer {
+        private final StringBuilder text = new StringBuilder();
+        private String sessionId;
+        private ScheduledFuture<?> scheduledFlush;
+        private boolean closed;
+    }
+}
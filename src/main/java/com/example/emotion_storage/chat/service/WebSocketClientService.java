@@ -6,15 +6,23 @@ import com.example.emotion_storage.chat.dto.GaugeDto;
 import com.example.emotion_storage.global.config.websocket.WebSocketClientConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import jakarta.annotation.PreDestroy;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.client.WebSocketClient;
 
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 @Slf4j
 @Service
@@ -33,15 +41,16 @@ public class WebSocketClientService {
     private final WebSocketClientConfig webSocketClientConfig;
     private final ObjectMapper objectMapper;
     private final ChatService chatService;
+    private final AiFrameDecoder frameDecoder;
 
     // 인스턴스 필드
-    private final ConcurrentHashMap<String, CompletableFuture<AiResponseDto>> pendingRequests = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, StringBuilder> responseBuilders = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, GaugeDto> gaugeResults = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Boolean> chatEndReceived = new ConcurrentHashMap<>();
-    private final ConcurrentHashMap<String, Boolean> gaugeWaitExpired = new ConcurrentHashMap<>();
-    private volatile WebSocketSession currentSession;
-    private volatile String currentSessionId;
+    private final ConcurrentHashMap<String, AiRequestState> pendingRequests = new ConcurrentHashMap<>();
+    private final List<AiWebSocketConnection> connections;
+    private final int maxInFlightPerConnection;
+    private final boolean strictRouting;
+    // 풀 전체에서 동시에 처리할 수 있는 요청 수. 자리가 없으면 acquire-timeout-ms 동안 기다린다.
+    private final Semaphore connectionSlots;
+    private final long acquireTimeoutMillis;
 
     public WebSocketClientService(
             WebSocketClientConfig webSocketClientConfig,
@@ -51,18 +60,30 @@ public class WebSocketClientService {
         this.webSocketClientConfig = webSocketClientConfig;
         this.objectMapper = objectMapper;
         this.chatService = chatService;
+        this.frameDecoder = new AiFrameDecoder(objectMapper.getFactory());
+        this.maxInFlightPerConnection = webSocketClientConfig.getMaxInFlightPerConnection();
+        this.strictRouting = webSocketClientConfig.isStrictRouting();
+
+        List<AiWebSocketConnection> pool = new ArrayList<>();
+        for (int i = 0; i < webSocketClientConfig.getPoolSize(); i++) {
+            pool.add(new AiWebSocketConnection(i));
+        }
+        this.connections = Collections.unmodifiableList(pool);
+        this.connectionSlots = new Semaphore(connections.size() * maxInFlightPerConnection, true);
+        this.acquireTimeoutMillis = webSocketClientConfig.getAcquireTimeoutMillis();
     }
 
     public CompletableFuture<AiResponseDto> sendMessageToAI(AiMessageDto message) {
         CompletableFuture<AiResponseDto> future = new CompletableFuture<>();
         String sessionId = message.getPayload().getSessionId();
         // 요청 등록
-        registerRequest(sessionId, future);
+        AiRequestState state = registerRequest(sessionId, future);
 
         try {
-            WebSocketSession session = getOrCreateSession();
-            if (session != null && session.isOpen()) {
-                sendMessageToSession(session, message);
+            AiWebSocketConnection connection = acquireConnection();
+            if (connection != null) {
+                routeSession(state, connection);
+                sendMessageToConnection(connection, state, message);
             } else {
                 future.completeExceptionally(new RuntimeException("AI 서버 연결 실패"));
             }
@@ -72,100 +93,200 @@ public class WebSocketClientService {
         }
 
         // 타임아웃 설정
-        setupTimeout(future, sessionId);
+        setupTimeout(state);
 
         return future;
     }
 
-    private void registerRequest(String sessionId, CompletableFuture<AiResponseDto> future) {
-        pendingRequests.put(sessionId, future);
-        responseBuilders.put(sessionId, new StringBuilder());
-        gaugeWaitExpired.put(sessionId, false);
-        currentSessionId = sessionId;
+    AiRequestState registerRequest(String sessionId, CompletableFuture<AiResponseDto> future) {
+        AiRequestState state = new AiRequestState(sessionId, future);
+        AiRequestState previous = pendingRequests.put(sessionId, state);
+        if (previous != null && previous.tryMarkAborted()) {
+            log.warn("[세션:{}] 이전 요청이 완료되기 전에 새 요청이 등록되어 이전 요청을 취소합니다", sessionId);
+            previous.getFuture().completeExceptionally(new RuntimeException("같은 세션의 새 요청으로 대체되었습니다."));
+            resetFifoConnection(previous);
+        }
+        return state;
     }
 
-    private synchronized void sendMessageToSession(WebSocketSession session, AiMessageDto message) throws Exception {
-        if (session == null || !session.isOpen()) {
-            throw new IllegalStateException("WebSocket 세션이 열려있지 않습니다.");
-        }
-        
+    private void sendMessageToConnection(
+            AiWebSocketConnection connection, AiRequestState state, AiMessageDto message
+    ) throws Exception {
         String messageJson = objectMapper.writeValueAsString(message);
-        session.sendMessage(new TextMessage(messageJson));
-        log.info("메시지를 AI 서버로 전송했습니다: {}", messageJson);
+        connection.send(state, new TextMessage(messageJson));
+        log.info("[연결:{}] 메시지를 AI 서버로 전송했습니다: {}", connection.getIndex(), messageJson);
+    }
+
+    /**
+     * 처리 중인 요청 수가 가장 적은 연결을 선택한다.
+     * 같은 부하라면 이미 열린 연결을 우선하고, 모든 연결이 상한에 도달했으면 acquire-timeout-ms 동안 자리가 나기를 기다린다.
+     * 그래도 자리가 없거나 연결을 열지 못하면 null을 반환한다.
+     */
+    private AiWebSocketConnection acquireConnection() {
+        if (!awaitConnectionSlot()) {
+            log.warn("{}ms 동안 기다려도 사용 가능한 AI 서버 연결이 없습니다. 풀 크기: {}, 연결당 최대 요청 수: {}",
+                    acquireTimeoutMillis, connections.size(), maxInFlightPerConnection);
+            return null;
+        }
+
+        for (int attempt = 0; attempt < connections.size(); attempt++) {
+            AiWebSocketConnection candidate = selectLeastInFlightConnection();
+            if (candidate == null) {
+                break;
+            }
+            if (!candidate.tryAcquire(maxInFlightPerConnection)) {
+                continue;
+            }
+            if (candidate.ensureOpen(this::connectToAI)) {
+                return candidate;
+            }
+            candidate.release();
+        }
+        connectionSlots.release();
+        log.warn("사용 가능한 AI 서버 연결이 없습니다. 풀 크기: {}, 연결당 최대 요청 수: {}",
+                connections.size(), maxInFlightPerConnection);
+        return null;
+    }
+
+    private boolean awaitConnectionSlot() {
+        try {
+            return connectionSlots.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private AiWebSocketConnection selectLeastInFlightConnection() {
+        AiWebSocketConnection selected = null;
+        for (AiWebSocketConnection connection : connections) {
+            int inFlight = connection.getInFlight();
+            if (inFlight >= maxInFlightPerConnection) {
+                continue;
+            }
+            if (selected == null
+                    || inFlight < selected.getInFlight()
+                    || (inFlight == selected.getInFlight() && connection.isOpen() && !selected.isOpen())) {
+                selected = connection;
+            }
+        }
+        return selected;
     }
 
-    private void setupTimeout(CompletableFuture<AiResponseDto> future, String sessionId) {
-        future.orTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+    private void routeSession(AiRequestState state, AiWebSocketConnection connection) {
+        state.bindConnection(connection);
+        state.getFuture().whenComplete((response, throwable) -> {
+            connection.untrack(state);
+            connection.release();
+            connectionSlots.release();
+        });
+    }
+
+    private void setupTimeout(AiRequestState state) {
+        state.getFuture().orTimeout(REQUEST_TIMEOUT_SECONDS, TimeUnit.SECONDS)
                 .exceptionally(throwable -> {
-                    cleanupRequest(sessionId);
+                    if (state.tryMarkAborted()) {
+                        resetFifoConnection(state);
+                    }
+                    cleanupRequest(state);
                     return null;
                 });
     }
 
-    private void cleanupRequest(String sessionId) {
-        pendingRequests.remove(sessionId);
-        responseBuilders.remove(sessionId);
-        gaugeResults.remove(sessionId);
-        chatEndReceived.remove(sessionId);
-        gaugeWaitExpired.remove(sessionId);
+    /**
+     * FIFO 라우팅에서는 응답 순서로 요청을 짝짓기 때문에, 프레임을 다 받기 전에 포기한 요청이 있으면
+     * 그 요청의 늦은 프레임이 다음 요청으로 넘어간다. 이 경우 연결을 닫아 순서를 처음부터 다시 맞춘다.
+     */
+    private void resetFifoConnection(AiRequestState state) {
+        AiWebSocketConnection connection = state.getConnection();
+        if (strictRouting || connection == null || (state.isChatEndReceived() && state.isGaugeReceived())) {
+            return;
+        }
+        log.warn("[연결:{}] 세션 {}의 응답을 끝까지 받지 못해 FIFO 순서를 맞추기 위해 연결을 다시 엽니다",
+                connection.getIndex(), state.getSessionId());
+        connection.close();
+        cleanupConnectionRequests(connection, new RuntimeException("AI 응답 순서를 맞추기 위해 연결을 다시 엽니다."));
     }
 
-    private void cleanupAllRequests(Throwable exception) {
-        pendingRequests.values().forEach(future -> future.completeExceptionally(exception));
-        pendingRequests.clear();
-        responseBuilders.clear();
-        gaugeResults.clear();
-        chatEndReceived.clear();
-        gaugeWaitExpired.clear();
+    private void cleanupRequest(AiRequestState state) {
+        pendingRequests.remove(state.getSessionId(), state);
     }
 
-    private WebSocketSession getOrCreateSession() {
-        if (currentSession == null || !currentSession.isOpen()) {
-            currentSession = connectToAI();
+    private void cleanupConnectionRequests(AiWebSocketConnection connection, Throwable exception) {
+        pendingRequests.values().forEach(state -> {
+            if (state.getConnection() != connection || !state.tryMarkAborted()) {
+                return;
+            }
+            cleanupRequest(state);
+            state.getFuture().completeExceptionally(exception);
+        });
+    }
+
+    /**
+     * 열린 연결에 ping을 보내 끊어진 연결을 미리 정리한다.
+     * 닫힌 슬롯은 다음 요청에서 다시 연결된다.
+     */
+    @Scheduled(fixedDelayString = "${ai.websocket.health-check-interval:30000}")
+    public void checkConnectionHealth() {
+        for (AiWebSocketConnection connection : connections) {
+            if (!connection.isOpen()) {
+                continue;
+            }
+            try {
+                connection.send(new PingMessage(ByteBuffer.allocate(0)));
+            } catch (Exception e) {
+                log.warn("[연결:{}] AI 서버 연결 상태 확인 실패, 연결을 정리합니다.", connection.getIndex(), e);
+                connection.close();
+                cleanupConnectionRequests(connection, new RuntimeException("WebSocket 연결 상태 확인 실패"));
+            }
         }
-        return currentSession;
     }
 
-    private WebSocketSession connectToAI() {
+    @PreDestroy
+    public void closeConnections() {
+        connections.forEach(AiWebSocketConnection::close);
+    }
+
+    private WebSocketSession connectToAI(AiWebSocketConnection connection) {
         try {
-            WebSocketHandler handler = createWebSocketHandler();
+            WebSocketHandler handler = createWebSocketHandler(connection);
             WebSocketClient client = webSocketClientConfig.webSocketClient();
             URI uri = URI.create(webSocketClientConfig.getAiWebSocketUrl());
             CompletableFuture<WebSocketSession> future = client.execute(handler, null, uri);
             return future.get();
 
         } catch (Exception e) {
-            log.error("AI 서버 연결 중 오류 발생", e);
+            log.error("[연결:{}] AI 서버 연결 중 오류 발생", connection.getIndex(), e);
             return null;
         }
     }
 
-    private WebSocketHandler createWebSocketHandler() {
+    private WebSocketHandler createWebSocketHandler(AiWebSocketConnection connection) {
         return new WebSocketHandler() {
             @Override
             public void afterConnectionEstablished(WebSocketSession session) throws Exception {
-                log.info("AI 서버와 WebSocket 연결이 성공했습니다.");
+                log.info("[연결:{}] AI 서버와 WebSocket 연결이 성공했습니다.", connection.getIndex());
             }
 
             @Override
             public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
                 if (message instanceof TextMessage) {
-                    handleTextMessage((TextMessage) message);
+                    handleTextMessage(connection, (TextMessage) message);
                 }
             }
 
             @Override
             public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
-                log.error("WebSocket 전송 오류 발생", exception);
-                currentSession = null;
-                cleanupAllRequests(exception);
+                log.error("[연결:{}] WebSocket 전송 오류 발생", connection.getIndex(), exception);
+                connection.markClosed(session);
+                cleanupConnectionRequests(connection, exception);
             }
 
             @Override
             public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
-                log.info("AI 서버와의 WebSocket 연결이 종료되었습니다. 상태: {}", closeStatus);
-                currentSession = null;
-                cleanupAllRequests(new RuntimeException("WebSocket 연결 종료"));
+                log.info("[연결:{}] AI 서버와의 WebSocket 연결이 종료되었습니다. 상태: {}", connection.getIndex(), closeStatus);
+                connection.markClosed(session);
+                cleanupConnectionRequests(connection, new RuntimeException("WebSocket 연결 종료"));
             }
 
             @Override
@@ -175,25 +296,32 @@ public class WebSocketClientService {
         };
     }
 
-    private void handleTextMessage(TextMessage message) {
+    private void handleTextMessage(AiWebSocketConnection connection, TextMessage message) {
         String payload = message.getPayload();
 
         try {
+            // 토큰마다 오는 chat.delta는 필요한 필드만 읽고 DTO 바인딩을 건너뛴다.
+            AiFrameDecoder.DeltaFrame delta = frameDecoder.tryDecodeDelta(payload);
+            if (delta != null) {
+                handleChatDeltaMessage(connection, delta.sessionId(), delta.text());
+                return;
+            }
+
             AiResponseDto response = objectMapper.readValue(payload, AiResponseDto.class);
             String type = response.getType();
 
             switch (type) {
                 case MESSAGE_TYPE_CHAT_DELTA:
-                    handleChatDeltaMessage(response);
+                    handleChatDeltaMessage(connection, response.getSessionId(), response.getText());
                     break;
                 case MESSAGE_TYPE_CHAT_END:
-                    handleChatEndMessage(response);
+                    handleChatEndMessage(connection, response);
                     break;
                 case MESSAGE_TYPE_ERROR:
-                    handleErrorMessage(response);
+                    handleErrorMessage(connection, response);
                     break;
                 case MESSAGE_TYPE_GAUGE_RESULT:
-                    handleGaugeResultMessage(response);
+                    handleGaugeResultMessage(connection, response);
                     break;
                 default:
                     log.warn("알 수 없는 메시지 타입: {}", type);
@@ -203,94 +331,104 @@ public class WebSocketClientService {
         }
     }
 
-    private void handleChatDeltaMessage(AiResponseDto response) {
-        String sessionId = response.getSessionId();
-        if (sessionId == null) {
-            sessionId = getCurrentSessionId();
-        }
-        
+    /**
+     * AI 프레임을 대기 중인 요청에 연결한다.
+     * session_id가 있으면 그대로 사용하고, 없으면 프레임이 도착한 연결에서 해당 단계를 기다리는
+     * 가장 먼저 전송된 요청으로 보낸다(FIFO). AI 서버가 한 연결의 요청을 보낸 순서대로 응답한다는 전제이며,
+     * 응답을 끝까지 받지 못한 요청이 생기면 연결을 다시 열어 순서를 맞춘다. strict 모드에서는 session_id가 없는 프레임을 거부한다.
+     */
+    private AiRequestState resolveRequest(
+            AiWebSocketConnection connection, AiResponseDto response, Predicate<AiRequestState> awaiting
+    ) {
+        return resolveRequest(connection, response.getSessionId(), response.getType(), awaiting);
+    }
+
+    AiRequestState resolveRequest(
+            AiWebSocketConnection connection, String sessionId, String type, Predicate<AiRequestState> awaiting
+    ) {
         if (sessionId != null) {
-            StringBuilder builder = responseBuilders.get(sessionId);
-            if (builder != null && response.getText() != null) {
-                String deltaText = response.getText();
-                builder.append(deltaText);
-                
-                log.debug("[세션:{}] 텍스트 delta 수신: {}, 누적 길이: {}", sessionId, deltaText, builder.length());
-                
-                Long roomId = chatService.extractRoomIdFromSessionId(sessionId);
-                if (roomId != null) {
-                    chatService.sendStreamingDelta(roomId, sessionId, deltaText);
-                } else {
-                    log.warn("[세션:{}] roomId를 추출할 수 없어 스트리밍 전송을 건너뜁니다", sessionId);
-                }
+            AiRequestState state = pendingRequests.get(sessionId);
+            if (state == null) {
+                log.warn("[세션:{}] 대기 중인 요청이 없는 {} 메시지입니다", sessionId, type);
             }
-        } else {
-            log.warn("chat.delta 메시지에서 세션 ID를 찾을 수 없습니다");
+            return state;
         }
+
+        if (strictRouting) {
+            log.warn("[연결:{}] session_id가 없는 {} 메시지를 거부합니다", connection.getIndex(), type);
+            return null;
+        }
+
+        AiRequestState state = connection.findOldestInFlight(awaiting);
+        if (state == null) {
+            log.warn("[연결:{}] {} 메시지를 전달할 요청을 찾을 수 없습니다", connection.getIndex(), type);
+        }
+        return state;
     }
 
-    private void handleChatEndMessage(AiResponseDto response) {
-        String sessionId = response.getSessionId();
-        if (sessionId == null) {
-            sessionId = getCurrentSessionId();
+    private void handleChatDeltaMessage(AiWebSocketConnection connection, String frameSessionId, String deltaText) {
+        AiRequestState state = resolveRequest(
+                connection, frameSessionId, MESSAGE_TYPE_CHAT_DELTA, request -> !request.isChatEndReceived());
+        if (state == null || deltaText == null) {
+            return;
         }
-        
-        if (sessionId != null) {
-            final String finalSessionId = sessionId;
-            chatEndReceived.put(finalSessionId, true);
 
-            scheduleGaugeFallback(finalSessionId);
-            tryCompleteResponse(finalSessionId);
+        String sessionId = state.getSessionId();
+        int length = state.appendDelta(deltaText);
+
+        log.debug("[세션:{}] 텍스트 delta 수신: {}, 누적 길이: {}", sessionId, deltaText, length);
 
-            log.debug("[세션:{}] chat.end 수신, gauge 대기 중...", finalSessionId);
+        Long roomId = chatService.extractRoomIdFromSessionId(sessionId);
+        if (roomId != null) {
+            chatService.sendStreamingDelta(roomId, sessionId, deltaText);
         } else {
-            log.warn("chat.end 메시지에서 세션 ID를 찾을 수 없습니다");
+            log.warn("[세션:{}] roomId를 추출할 수 없어 스트리밍 전송을 건너뜁니다", sessionId);
         }
     }
-    
-    private void scheduleGaugeFallback(String sessionId) {
-        CompletableFuture.delayedExecutor(GAUGE_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)
-                .execute(() -> handleGaugeFallback(sessionId));
-    }
 
-    private void handleGaugeFallback(String sessionId) {
-        if (!pendingRequests.containsKey(sessionId)) {
+    private void handleChatEndMessage(AiWebSocketConnection connection, AiResponseDto response) {
+        AiRequestState state = resolveRequest(connection, response, request -> !request.isChatEndReceived());
+        if (state == null) {
             return;
         }
-        gaugeWaitExpired.put(sessionId, true);
-        log.debug("[세션:{}] gauge 결과 대기 시간이 만료되었습니다", sessionId);
-        tryCompleteResponse(sessionId);
+
+        state.markChatEndReceived();
+
+        scheduleGaugeFallback(state);
+        tryCompleteResponse(state);
+
+        log.debug("[세션:{}] chat.end 수신, gauge 대기 중...", state.getSessionId());
     }
 
-    private synchronized void tryCompleteResponse(String sessionId) {
-        CompletableFuture<AiResponseDto> future = pendingRequests.get(sessionId);
-        if (future == null) {
-            return;
-        }
+    private void scheduleGaugeFallback(AiRequestState state) {
+        CompletableFuture.delayedExecutor(GAUGE_WAIT_MILLISECONDS, TimeUnit.MILLISECONDS)
+                .execute(() -> handleGaugeFallback(state));
+    }
 
-        if (!Boolean.TRUE.equals(chatEndReceived.get(sessionId))) {
+    private void handleGaugeFallback(AiRequestState state) {
+        if (state.isCompleted()) {
             return;
         }
+        state.markGaugeWaitExpired();
+        log.debug("[세션:{}] gauge 결과 대기 시간이 만료되었습니다", state.getSessionId());
+        tryCompleteResponse(state);
+        // 늦게 도착할 gauge가 다음 요청의 gauge로 읽히지 않도록 한다.
+        resetFifoConnection(state);
+    }
 
-        GaugeDto gauge = gaugeResults.get(sessionId);
-        boolean waitExpired = Boolean.TRUE.equals(gaugeWaitExpired.get(sessionId));
-
-        if (gauge == null && !waitExpired) {
-            log.debug("[세션:{}] gauge 결과를 아직 기다리는 중입니다", sessionId);
+    private void tryCompleteResponse(AiRequestState state) {
+        String sessionId = state.getSessionId();
+        if (!state.tryMarkCompleted()) {
+            if (state.isChatEndReceived() && !state.isCompleted()) {
+                log.debug("[세션:{}] gauge 결과를 아직 기다리는 중입니다", sessionId);
+            }
             return;
         }
 
-        StringBuilder builder = responseBuilders.remove(sessionId);
-        String fullResponse = builder != null ? builder.toString() : "";
+        cleanupRequest(state);
 
-        pendingRequests.remove(sessionId);
-        gaugeResults.remove(sessionId);
-        chatEndReceived.remove(sessionId);
-        gaugeWaitExpired.remove(sessionId);
-
-        if (builder == null) {
-            log.warn("[세션:{}] 응답 본문이 존재하지 않아 빈 문자열로 처리합니다", sessionId);
-        }
+        String fullResponse = state.getFullResponse();
+        GaugeDto gauge = state.getGauge();
 
         if (gauge == null) {
             log.warn("[세션:{}] gauge 결과 없이 응답을 완료합니다", sessionId);
@@ -303,78 +441,47 @@ public class WebSocketClientService {
                 .gauge(gauge)
                 .build();
 
-        future.complete(finalResponse);
+        state.getFuture().complete(finalResponse);
         log.info("[세션:{}] AI 응답 완료", sessionId);
     }
 
-    private void handleErrorMessage(AiResponseDto response) {
-        String sessionId = response.getSessionId();
-        if (sessionId == null) {
-            sessionId = getCurrentSessionId();
-        }
-        
-        if (sessionId != null) {
-            CompletableFuture<AiResponseDto> future = pendingRequests.remove(sessionId);
-            responseBuilders.remove(sessionId);
-            gaugeResults.remove(sessionId);
-            chatEndReceived.remove(sessionId);
-            gaugeWaitExpired.remove(sessionId);
-            
-            if (future != null) {
-                future.completeExceptionally(new RuntimeException("AI 서버 오류: " + response.getMessage()));
-            }
-        } else {
-            log.warn("error 메시지에서 세션 ID를 찾을 수 없습니다");
+    private void handleErrorMessage(AiWebSocketConnection connection, AiResponseDto response) {
+        AiRequestState state = resolveRequest(connection, response, request -> true);
+        if (state == null || !state.tryMarkAborted()) {
+            return;
         }
+
+        cleanupRequest(state);
+        state.getFuture().completeExceptionally(new RuntimeException("AI 서버 오류: " + response.getMessage()));
     }
 
-    private void handleGaugeResultMessage(AiResponseDto response) {
-        String sessionId = response.getSessionId();
-        if (sessionId == null) {
-            log.warn("gauge.result 메시지에 sessionId가 없어서 getCurrentSessionId() 사용");
-            sessionId = getCurrentSessionId();
-        }
-        
+    private void handleGaugeResultMessage(AiWebSocketConnection connection, AiResponseDto response) {
         GaugeDto gauge = response.getGauge();
-        
-        if (sessionId != null && gauge != null) {
-            if (!pendingRequests.containsKey(sessionId)) {
-                log.warn("[세션:{}] 이미 완료된 세션의 gauge 결과가 도착했습니다. 무시합니다.", sessionId);
-                return;
-            }
-            
-            gaugeResults.put(sessionId, gauge);
-            
-            log.info("[세션:{}] 감정 분석 결과를 받았습니다 - 전체 점수: {}, 턴 수: {}, 감정 표현: {}, 감정 다양성: {}, 사건 참조: {}, 감정 변화: {}, 요약: {}", 
-                    sessionId, gauge.getGaugeScore(), gauge.getTurnCountScore(), gauge.getEmotionExpressionScore(), 
-                    gauge.getEmotionDiversityScore(), gauge.getEventReferenceScore(), gauge.getEmotionChangeScore(), 
-                    gauge.getSummary());
-            
-            if (chatEndReceived.containsKey(sessionId)) {
-                log.debug("[세션:{}] chat.end를 이미 받았으므로 즉시 응답 완료 시도", sessionId);
-                tryCompleteResponse(sessionId);
-            }
-        } else {
-            if (sessionId == null) {
-                log.warn("gauge.result 메시지에서 세션 ID를 찾을 수 없습니다. 응답: {}", response);
-            }
-            if (gauge == null) {
-                log.warn("[세션:{}] gauge.result 메시지에서 gauge 정보가 null입니다.", sessionId);
-            }
+        if (gauge == null) {
+            log.warn("[세션:{}] gauge.result 메시지에서 gauge 정보가 null입니다.", response.getSessionId());
+            return;
         }
-    }
 
-    private String getCurrentSessionId() {
-        // 현재 처리 중인 세션 ID를 반환
-        // AI 서버의 응답에는 session_id가 포함되지 않으므로 현재 세션 ID 사용
-        if (currentSessionId != null && pendingRequests.containsKey(currentSessionId)) {
-            return currentSessionId;
+        AiRequestState state = resolveRequest(connection, response, request -> !request.isGaugeReceived());
+        if (state == null) {
+            return;
         }
-        // 백업: 대기 중인 첫 번째 세션 ID 반환
-        if (!pendingRequests.isEmpty()) {
-            return pendingRequests.keySet().iterator().next();
+        if (state.isCompleted()) {
+            log.warn("[세션:{}] 이미 완료된 세션의 gauge 결과가 도착했습니다. 무시합니다.", state.getSessionId());
+            return;
+        }
+
+        String sessionId = state.getSessionId();
+        state.receiveGauge(gauge);
+
+        log.info("[세션:{}] 감정 분석 결과를 받았습니다 - 전체 점수: {}, 턴 수: {}, 감정 표현: {}, 감정 다양성: {}, 사건 참조: {}, 감정 변화: {}, 요약: {}",
+                sessionId, gauge.getGaugeScore(), gauge.getTurnCountScore(), gauge.getEmotionExpressionScore(),
+                gauge.getEmotionDiversityScore(), gauge.getEventReferenceScore(), gauge.getEmotionChangeScore(),
+                gauge.getSummary());
+
+        if (state.isChatEndReceived()) {
+            log.debug("[세션:{}] chat.end를 이미 받았으므로 즉시 응답 완료 시도", sessionId);
+            tryCompleteResponse(state);
         }
-        log.warn("세션 ID를 찾을 수 없습니다.");
-        return null;
     }
 }
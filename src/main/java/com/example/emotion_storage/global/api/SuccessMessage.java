@@ -37,6 +37,8 @@ public enum SuccessMessage {
     UPDATE_TIME_CAPSULE_MIND_NOTE_SUCCESS("타임캡슐 내 마음 노트 수정 성공"),
     DELETE_TIME_CAPSULE_SUCCESS("타임캡슐 삭제 성공"),
     CREATE_TIME_CAPSULE_SUCCESS("타임캡슐 생성 성공"),
+    CREATE_TIME_CAPSULE_JOB_SUCCESS("타임캡슐 생성 작업 등록 성공"),
+    GET_TIME_CAPSULE_CREATE_JOB_SUCCESS("타임캡슐 생성 작업 조회 성공"),
     SAVE_TIME_CAPSULE_SUCCESS("타임캡슐 저장 성공"),
     UPDATE_TIME_CAPSULE_OPEN_DATE_SUCCESS("타임캡슐 오픈일 지정 성공"),
     GET_ARRIVED_TIME_CAPSULE_COUNT_SUCCESS("도착한 타임캡슐 개수 조회 성공"),
@@ -1,13 +1,16 @@
 package com.example.emotion_storage.global.config.redis;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.util.StringUtils;
 
@@ -39,4 +42,17 @@ public class RedisConfig {
         redisTemplate.setConnectionFactory(redisConnectionFactory());
         return redisTemplate;
     }
+
+    /**
+     * 채팅방 Redis fan-out 구독용 컨테이너
+     * 같은 채널의 메시지 순서(스트리밍 delta 순서)를 지키기 위해 수신 스레드에서 바로 리스너를 실행한다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "chat.broker.redis-fanout.enabled", havingValue = "true")
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.setTaskExecutor(new SyncTaskExecutor());
+        return container;
+    }
 }
@@ -0,0 +1,97 @@
+package com.example.emotion_storage.global.config.rest;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * AI 서버 HTTP 클라이언트 지표
+ * 요청 수/처리 시간/진행 중인 요청 수는 RestTemplate 인터셉터로, 커넥션 대여 대기 시간은 커넥션 풀에서 기록한다.
+ */
+@Slf4j
+public class AiHttpClientMetrics implements ClientHttpRequestInterceptor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder requestNanos = new LongAdder();
+
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseNanos = new LongAdder();
+    private final LongAccumulator maxLeaseNanos = new LongAccumulator(Math::max, 0);
+
+    private ConnPoolControl<HttpRoute> pool;
+
+    public record Snapshot(
+            int inFlight, long requests, long failures, double avgRequestMillis,
+            long leases, double avgLeaseMillis, double maxLeaseMillis,
+            int leased, int pending, int available, int max
+    ) {}
+
+    void bindPool(ConnPoolControl<HttpRoute> pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        try {
+            return execution.execute(request, body);
+        } catch (IOException | RuntimeException e) {
+            failureCount.increment();
+            throw e;
+        } finally {
+            requestNanos.add(System.nanoTime() - start);
+            requestCount.increment();
+            inFlight.decrementAndGet();
+        }
+    }
+
+    void recordLease(long nanos) {
+        leaseCount.increment();
+        leaseNanos.add(nanos);
+        maxLeaseNanos.accumulate(nanos);
+    }
+
+    public Snapshot snapshot() {
+        long requests = requestCount.sum();
+        long leases = leaseCount.sum();
+        PoolStats stats = pool != null ? pool.getTotalStats() : new PoolStats(0, 0, 0, 0);
+        return new Snapshot(
+                inFlight.get(), requests, failureCount.sum(), averageMillis(requestNanos.sum(), requests),
+                leases, averageMillis(leaseNanos.sum(), leases), toMillis(maxLeaseNanos.get()),
+                stats.getLeased(), stats.getPending(), stats.getAvailable(), stats.getMax()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${rest-template.metrics-log-interval:600000}")
+    public void logSnapshot() {
+        Snapshot s = snapshot();
+        log.info("AI HTTP 클라이언트 - 진행 중 {}건, 누적 요청 {}건(실패 {}건, 평균 {}ms), 커넥션 대여 평균 {}ms/최대 {}ms, "
+                        + "풀 사용 {}/{} (대기 {}, 유휴 {})",
+                s.inFlight(), s.requests(), s.failures(), String.format("%.1f", s.avgRequestMillis()),
+                String.format("%.2f", s.avgLeaseMillis()), String.format("%.2f", s.maxLeaseMillis()),
+                s.leased(), s.max(), s.pending(), s.available());
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0 : toMillis(totalNanos) / count;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
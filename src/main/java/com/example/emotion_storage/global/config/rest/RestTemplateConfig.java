@@ -1,11 +1,29 @@
 package com.example.emotion_storage.global.config.rest;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * AI 서버 REST 호출용 HTTP 클라이언트 설정
+ * RestTemplate은 TimeCapsuleService, DailyReportGenerateService, SentimentAnalysisService가 함께 쓰며
+ * 모두 AI 서버 한 곳으로 요청하므로 라우트당 커넥션 수가 실제 동시 호출 한도가 된다.
+ */
 @Configuration
 public class RestTemplateConfig {
 
@@ -15,11 +33,100 @@ public class RestTemplateConfig {
     @Value("${rest-template.read-timeout:120000}")
     private int readTimeout;
 
+    @Value("${rest-template.pool.max-total:100}")
+    private int maxTotal;
+
+    @Value("${rest-template.pool.max-per-route:50}")
+    private int maxPerRoute;
+
+    @Value("${rest-template.pool.connection-request-timeout:5000}")
+    private long connectionRequestTimeout;
+
+    @Value("${rest-template.pool.connection-ttl:300000}")
+    private long connectionTtl;
+
+    @Value("${rest-template.pool.keep-alive:30000}")
+    private long keepAlive;
+
+    @Value("${rest-template.pool.idle-evict:30000}")
+    private long idleEvict;
+
+    @Value("${rest-template.pool.validate-after-inactivity:2000}")
+    private long validateAfterInactivity;
+
+    @Bean
+    public AiHttpClientMetrics aiHttpClientMetrics() {
+        return new AiHttpClientMetrics();
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory();
-        factory.setConnectTimeout(connectTimeout);
-        factory.setReadTimeout(readTimeout);
-        return new RestTemplate(factory);
+    public CloseableHttpClient aiHttpClient(AiHttpClientMetrics metrics) {
+        PoolingHttpClientConnectionManager connectionManager = new MeteredConnectionManager(metrics);
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+                .setTimeToLive(TimeValue.ofMilliseconds(connectionTtl))
+                .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivity))
+                .build());
+        metrics.bindPool(connectionManager);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeout))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+                        .build())
+                .setKeepAliveStrategy((response, context) -> {
+                    // 서버가 Keep-Alive 헤더로 더 짧은 시간을 주면 그 값을 따른다.
+                    TimeValue serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return TimeValue.ofMilliseconds(Math.min(serverKeepAlive.toMilliseconds(), keepAlive));
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvict))
+                .build();
+    }
+
+    @Bean
+    public RestTemplate restTemplate(CloseableHttpClient aiHttpClient, AiHttpClientMetrics metrics) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(aiHttpClient));
+        restTemplate.getInterceptors().add(metrics);
+        return restTemplate;
+    }
+
+    /**
+     * 커넥션 대여 요청부터 커넥션을 받기까지 걸린 시간을 기록하는 커넥션 풀
+     */
+    private static class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private final AiHttpClientMetrics metrics;
+
+        MeteredConnectionManager(AiHttpClientMetrics metrics) {
+            this.metrics = metrics;
+        }
+
+        @Override
+        public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+            long start = System.nanoTime();
+            LeaseRequest delegate = super.lease(id, route, requestTimeout, state);
+            return new LeaseRequest() {
+                @Override
+                public ConnectionEndpoint get(Timeout timeout)
+                        throws InterruptedException, ExecutionException, TimeoutException {
+                    try {
+                        return delegate.get(timeout);
+                    } finally {
+                        metrics.recordLease(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return delegate.cancel();
+                }
+            };
+        }
     }
-}
\ No newline at end of file
+}
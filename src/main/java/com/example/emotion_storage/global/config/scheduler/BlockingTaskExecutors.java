@@ -0,0 +1,44 @@
+package com.example.emotion_storage.global.config.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * AI 서버 호출처럼 오래 막히는 작업을 실행하는 스레드 풀을 만든다.
+ * spring.threads.virtual.enabled가 켜져 있고 Java 21 이상이면 풀의 작업 스레드를 가상 스레드로 만든다.
+ * 풀 크기, 대기열 크기, 대기열이 가득 찼을 때의 거절은 플랫폼 스레드일 때와 같다.
+ */
+@Slf4j
+public final class BlockingTaskExecutors {
+
+    public static final int VIRTUAL_THREAD_MIN_JAVA_VERSION = 21;
+
+    private BlockingTaskExecutors() {
+    }
+
+    public static boolean isVirtualThreadAvailable() {
+        return Runtime.version().feature() >= VIRTUAL_THREAD_MIN_JAVA_VERSION;
+    }
+
+    public static ThreadPoolTaskExecutor create(
+            String threadNamePrefix, int poolSize, int queueCapacity, int awaitTerminationSeconds,
+            boolean virtualThreadsEnabled
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        if (virtualThreadsEnabled && isVirtualThreadAvailable()) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(threadNamePrefix).getVirtualThreadFactory());
+        } else if (virtualThreadsEnabled) {
+            log.warn("가상 스레드는 Java {} 이상에서만 사용할 수 있어 {} 작업은 플랫폼 스레드에서 실행합니다. (현재: {})",
+                    VIRTUAL_THREAD_MIN_JAVA_VERSION, threadNamePrefix, Runtime.version().feature());
+        }
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,22 +1,44 @@
 package com.example.emotion_storage.global.config.scheduler;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
+@Slf4j
 @Configuration
 public class SchedulerConfig implements SchedulingConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        if (virtualThreadsEnabled && BlockingTaskExecutors.isVirtualThreadAvailable()) {
+            // AI 서버 호출처럼 오래 막히는 작업도 풀 크기(5)에 묶이지 않도록 실행마다 가상 스레드를 쓴다.
+            SimpleAsyncTaskScheduler taskScheduler = new SimpleAsyncTaskScheduler();
+            taskScheduler.setVirtualThreads(true);
+            taskScheduler.setThreadNamePrefix("scheduled-task-");
+            taskScheduler.setTaskTerminationTimeout(60_000);
+            taskRegistrar.setScheduler(taskScheduler);
+            log.info("스케줄러 작업을 가상 스레드에서 실행합니다.");
+            return;
+        }
+        if (virtualThreadsEnabled) {
+            log.warn("가상 스레드는 Java {} 이상에서만 사용할 수 있어 기존 스레드 풀을 사용합니다. (현재: {})",
+                    BlockingTaskExecutors.VIRTUAL_THREAD_MIN_JAVA_VERSION, Runtime.version().feature());
+        }
+
         ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
         taskScheduler.setPoolSize(5);
         taskScheduler.setThreadNamePrefix("scheduled-task-");
         taskScheduler.setWaitForTasksToCompleteOnShutdown(true);
         taskScheduler.setAwaitTerminationSeconds(60);
         taskScheduler.initialize();
-        
+
         taskRegistrar.setScheduler(taskScheduler);
     }
 }
@@ -1,7 +1,10 @@
 package com.example.emotion_storage.global.config.websocket;
 
 import com.example.emotion_storage.global.websocket.StompHandler;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
@@ -9,13 +12,55 @@ import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBr
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+@Slf4j
 @EnableWebSocketMessageBroker
 @Configuration
 @RequiredArgsConstructor
 public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String BROKER_DESTINATION_PREFIX = "/sub";
+
     private final StompHandler stompHandler;
 
+    /**
+     * true면 외부 STOMP 브로커(ActiveMQ Artemis 등)로 구독/발행을 중계한다.
+     * 모든 노드가 같은 브로커를 바라보므로 어느 노드에서 발행한 AI 응답도 해당 채팅방 구독자 전체에게 전달된다.
+     */
+    @Value("${chat.broker.relay.enabled:false}")
+    private boolean relayEnabled;
+
+    /**
+     * 외부 브로커 릴레이와 Redis fan-out은 같은 메시지를 각각 전달하므로 함께 켤 수 없다.
+     */
+    @Value("${chat.broker.redis-fanout.enabled:false}")
+    private boolean redisFanoutEnabled;
+
+    @Value("${chat.broker.relay.host:localhost}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.client-login:guest}")
+    private String clientLogin;
+
+    @Value("${chat.broker.relay.client-passcode:guest}")
+    private String clientPasscode;
+
+    @Value("${chat.broker.relay.system-login:guest}")
+    private String systemLogin;
+
+    @Value("${chat.broker.relay.system-passcode:guest}")
+    private String systemPasscode;
+
+    @PostConstruct
+    void validateBrokerMode() {
+        if (relayEnabled && redisFanoutEnabled) {
+            throw new IllegalStateException(
+                    "chat.broker.relay.enabled와 chat.broker.redis-fanout.enabled는 동시에 켤 수 없습니다. 하나만 사용하세요.");
+        }
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
@@ -26,7 +71,20 @@ public class StompWebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub");
-        registry.enableSimpleBroker("/sub");
+
+        if (!relayEnabled) {
+            registry.enableSimpleBroker(BROKER_DESTINATION_PREFIX);
+            return;
+        }
+
+        log.info("외부 STOMP 브로커 릴레이 사용: {}:{}", relayHost, relayPort);
+        registry.enableStompBrokerRelay(BROKER_DESTINATION_PREFIX)
+                .setRelayHost(relayHost)
+                .setRelayPort(relayPort)
+                .setClientLogin(clientLogin)
+                .setClientPasscode(clientPasscode)
+                .setSystemLogin(systemLogin)
+                .setSystemPasscode(systemPasscode);
     }
 
     @Override
@@ -11,6 +11,18 @@ public class WebSocketClientConfig {
     @Value("${ai.websocket.url}")
     private String aiWebSocketUrl;
 
+    @Value("${ai.websocket.pool-size:4}")
+    private int poolSize;
+
+    @Value("${ai.websocket.max-in-flight-per-connection:16}")
+    private int maxInFlightPerConnection;
+
+    @Value("${ai.websocket.strict-routing:false}")
+    private boolean strictRouting;
+
+    @Value("${ai.websocket.acquire-timeout-ms:3000}")
+    private long acquireTimeoutMillis;
+
     @Bean
     public StandardWebSocketClient webSocketClient() {
         return new StandardWebSocketClient();
@@ -19,4 +31,20 @@ public class WebSocketClientConfig {
     public String getAiWebSocketUrl() {
         return aiWebSocketUrl;
     }
+
+    public int getPoolSize() {
+        return Math.max(1, poolSize);
+    }
+
+    public int getMaxInFlightPerConnection() {
+        return Math.max(1, maxInFlightPerConnection);
+    }
+
+    public boolean isStrictRouting() {
+        return strictRouting;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return Math.max(0, acquireTimeoutMillis);
+    }
 }
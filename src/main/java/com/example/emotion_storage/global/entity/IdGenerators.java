@@ -0,0 +1,17 @@
+package com.example.emotion_storage.global.entity;
+
+/**
+ * 배치 INSERT가 가능한 테이블 기반 ID 생성기 설정
+ * IDENTITY는 INSERT마다 키를 받아와야 해서 Hibernate JDBC 배치가 꺼지므로,
+ * 자식 행이 많은 엔티티는 id_generator 테이블에서 ALLOCATION_SIZE 단위로 ID를 미리 할당받는다.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generator";
+    public static final String PK_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
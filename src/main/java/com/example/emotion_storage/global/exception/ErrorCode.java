@@ -25,6 +25,7 @@ public enum ErrorCode {
     CHAT_ROOM_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
     CHAT_ROOM_ACCESS_DENIED(HttpStatus.FORBIDDEN, "채팅방에 접근할 수 없습니다."),
     TICKET_NOT_ENOUGH(HttpStatus.BAD_REQUEST, "티켓이 부족하여 대화를 시작할 수 없습니다."),
+    CHAT_WRITE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "채팅 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     TIME_CAPSULE_NOT_FOUND(HttpStatus.NOT_FOUND, "타임캡슐을 찾을 수 없습니다."),
     TIME_CAPSULE_IS_NOT_OWNED(HttpStatus.FORBIDDEN, "사용자의 타임캡슐이 아닙니다."),
@@ -35,6 +36,8 @@ public enum ErrorCode {
     TIME_CAPSULE_DRAFT_EXPIRED(HttpStatus.GONE, "타임캡슐 임시저장 기간이 만료되었습니다."),
     TIME_CAPSULE_OPEN_DATE_BEFORE_STORED_AT(HttpStatus.BAD_REQUEST, "오픈일은 보관일 이전일 수 없습니다."),
     TIME_CAPSULE_OPEN_DATE_AFTER_LIMIT(HttpStatus.BAD_REQUEST, "오픈일은 보관일로부터 1년을 초과할 수 없습니다."),
+    TIME_CAPSULE_CREATE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "타임캡슐 생성 작업을 찾을 수 없습니다."),
+    TIME_CAPSULE_CREATE_JOB_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "타임캡슐 생성 요청이 많습니다. 잠시 후 다시 시도해주세요."),
 
     REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "리포트를 찾을 수 없습니다."),
     DAILY_REPORT_NOT_FOUND(HttpStatus.NOT_FOUND, "일일리포트 조회 실패 - 존재하지 않음"),
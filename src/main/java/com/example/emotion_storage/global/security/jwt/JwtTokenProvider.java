@@ -1,8 +1,12 @@
 package com.example.emotion_storage.global.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -13,18 +17,33 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 액세스 토큰 생성/검증
+ * 파서는 한 번만 만들어 재사용하고, 서명 검증에 성공한 토큰은 만료 시각까지 LRU 캐시에 userId와 함께 보관해
+ * 같은 토큰으로 들어오는 요청은 다시 파싱하거나 HMAC을 계산하지 않는다.
+ */
 @Component
 public class JwtTokenProvider {
 
     private final Key secretKey;
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenParseResult> verifiedTokens;
 
     private final int jwtExpiration;
 
     public JwtTokenProvider(
             @Value("${jwt.secret}") String jwtSecret,
-            @Value("${jwt.access-token.expiration-minutes}") int jwtExpiration
+            @Value("${jwt.access-token.expiration-minutes}") int jwtExpiration,
+            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize
     ) {
         this.secretKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .build();
         this.jwtExpiration = jwtExpiration;
     }
 
@@ -40,39 +59,75 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public TokenStatus validateToken(String token) {
+    /**
+     * 토큰 상태와 userId, 만료 시각을 한 번의 파싱으로 반환한다.
+     */
+    public TokenParseResult parse(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenParseResult.invalid();
+        }
+
+        TokenParseResult cached = verifiedTokens.getIfPresent(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > System.currentTimeMillis()) {
+                return cached;
+            }
+            verifiedTokens.invalidate(token);
+            return TokenParseResult.expired();
+        }
+
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(secretKey)
-                    .build()
-                    .parseClaimsJws(token);
-            return TokenStatus.VALID;
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            TokenParseResult result = TokenParseResult.valid(
+                    Long.parseLong(claims.getSubject()), claims.getExpiration().getTime());
+            verifiedTokens.put(token, result);
+            return result;
         } catch (ExpiredJwtException e) {
-            return TokenStatus.EXPIRED;
-        } catch (JwtException e) {
-            return TokenStatus.INVALID;
+            return TokenParseResult.expired();
+        } catch (JwtException | IllegalArgumentException e) {
+            return TokenParseResult.invalid();
         }
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public TokenStatus validateToken(String token) {
+        return parse(token).status();
+    }
 
-        return Long.parseLong(claims.getSubject());
+    public Long getUserIdFromToken(String token) {
+        TokenParseResult result = parse(token);
+        if (!result.isValid()) {
+            throw new JwtException("유효하지 않은 토큰입니다. (" + result.status() + ")");
+        }
+        return result.userId();
     }
 
     public long getRemainingMillis(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        TokenParseResult result = parse(token);
+        if (!result.isValid()) {
+            return 0L;
+        }
+        return Math.max(0L, result.expiresAtMillis() - System.currentTimeMillis());
+    }
+
+    /**
+     * 캐시 항목은 토큰 만료 시각에 제거한다.
+     */
+    private static class UntilTokenExpiry implements Expiry<String, TokenParseResult> {
 
-        long exp = claims.getExpiration().getTime();
-        long now = System.currentTimeMillis();
-        return Math.max(0L, exp - now);
+        @Override
+        public long expireAfterCreate(String token, TokenParseResult result, long currentTime) {
+            long remainingMillis = result.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, TokenParseResult result, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, result, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, TokenParseResult result, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -65,7 +65,8 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        TokenStatus status = jwtTokenProvider.validateToken(token);
+        TokenParseResult parsed = jwtTokenProvider.parse(token);
+        TokenStatus status = parsed.status();
 
         log.debug("[AUTH] path={}, authHeader={}", request.getServletPath(), request.getHeader(HttpHeaders.AUTHORIZATION));
         log.debug("[AUTH] tokenStatus={}", status);
@@ -75,8 +76,7 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
                 SecurityContextHolder.clearContext();
                 request.setAttribute("authErrorCode", ErrorCode.ACCESS_TOKEN_INVALID);
             } else {
-                Long userId = jwtTokenProvider.getUserIdFromToken(token);
-                User user = userRepository.findById(userId)
+                User user = userRepository.findById(parsed.userId())
                         .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
 
                 List<GrantedAuthority> authorities = Collections.emptyList();
@@ -0,0 +1,27 @@
+package com.example.emotion_storage.global.security.jwt;
+
+/**
+ * 토큰을 한 번 파싱한 결과
+ * VALID일 때만 userId와 만료 시각(epoch millis)이 채워진다.
+ */
+public record TokenParseResult(TokenStatus status, Long userId, long expiresAtMillis) {
+
+    private static final TokenParseResult EXPIRED = new TokenParseResult(TokenStatus.EXPIRED, null, 0L);
+    private static final TokenParseResult INVALID = new TokenParseResult(TokenStatus.INVALID, null, 0L);
+
+    public static TokenParseResult valid(Long userId, long expiresAtMillis) {
+        return new TokenParseResult(TokenStatus.VALID, userId, expiresAtMillis);
+    }
+
+    public static TokenParseResult expired() {
+        return EXPIRED;
+    }
+
+    public static TokenParseResult invalid() {
+        return INVALID;
+    }
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+}
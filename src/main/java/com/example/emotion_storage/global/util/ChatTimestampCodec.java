@@ -0,0 +1,107 @@
+package com.example.emotion_storage.global.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 채팅 파이프라인에서 쓰는 timestamp 변환
+ * 클라이언트 형식(yyyy-MM-dd HH:mm:ss.SSS)과 AI 서버 형식(ISO, 마이크로초까지)은 자리수가 고정되어 있어
+ * 포맷터를 거치지 않고 숫자를 바로 읽는다. 형식이 다르면 포맷터로 파싱해 기존 예외를 그대로 던진다.
+ */
+public final class ChatTimestampCodec {
+
+    public static final DateTimeFormatter CLIENT_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    // yyyy-MM-dd HH:mm:ss.SSS
+    private static final int CLIENT_LENGTH = 23;
+    // yyyy-MM-ddTHH:mm:ss
+    private static final int ISO_SECONDS_LENGTH = 19;
+    private static final int MAX_FRACTION_DIGITS = 9;
+
+    private ChatTimestampCodec() {
+    }
+
+    /**
+     * 클라이언트가 보낸 "yyyy-MM-dd HH:mm:ss.SSS" 형식을 파싱한다.
+     */
+    public static LocalDateTime parseClient(String timestamp) {
+        if (timestamp == null || timestamp.length() != CLIENT_LENGTH
+                || !hasDateTimeSeparators(timestamp, ' ') || timestamp.charAt(19) != '.') {
+            return LocalDateTime.parse(timestamp, CLIENT_FORMATTER);
+        }
+
+        int millis = digits(timestamp, 20, 23);
+        LocalDateTime parsed = parseDateTime(timestamp, millis < 0 ? -1 : millis * 1_000_000);
+        return parsed != null ? parsed : LocalDateTime.parse(timestamp, CLIENT_FORMATTER);
+    }
+
+    /**
+     * AI 서버가 보낸 ISO 형식(예: 2025-10-10T00:40:02.230468)을 파싱한다.
+     */
+    public static LocalDateTime parseAi(String timestamp) {
+        if (timestamp == null || timestamp.length() < ISO_SECONDS_LENGTH || !hasDateTimeSeparators(timestamp, 'T')) {
+            return LocalDateTime.parse(timestamp);
+        }
+
+        int nanos = 0;
+        int length = timestamp.length();
+        if (length > ISO_SECONDS_LENGTH) {
+            int fractionDigits = length - ISO_SECONDS_LENGTH - 1;
+            if (timestamp.charAt(ISO_SECONDS_LENGTH) != '.' || fractionDigits < 1 || fractionDigits > MAX_FRACTION_DIGITS) {
+                return LocalDateTime.parse(timestamp);
+            }
+            nanos = digits(timestamp, ISO_SECONDS_LENGTH + 1, length);
+            for (int i = fractionDigits; i < MAX_FRACTION_DIGITS && nanos >= 0; i++) {
+                nanos *= 10;
+            }
+        }
+
+        LocalDateTime parsed = parseDateTime(timestamp, nanos);
+        return parsed != null ? parsed : LocalDateTime.parse(timestamp);
+    }
+
+    /**
+     * 서버에서 만든 timestamp를 ISO 형식으로 변환한다.
+     */
+    public static String formatIso(LocalDateTime dateTime) {
+        return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    private static boolean hasDateTimeSeparators(String s, char dateTimeSeparator) {
+        return s.charAt(4) == '-' && s.charAt(7) == '-' && s.charAt(10) == dateTimeSeparator
+                && s.charAt(13) == ':' && s.charAt(16) == ':';
+    }
+
+    /**
+     * 숫자가 아닌 문자가 있거나 범위를 벗어나면 null을 반환해 포맷터 경로로 넘긴다.
+     */
+    private static LocalDateTime parseDateTime(String s, int nanos) {
+        int year = digits(s, 0, 4);
+        int month = digits(s, 5, 7);
+        int day = digits(s, 8, 10);
+        int hour = digits(s, 11, 13);
+        int minute = digits(s, 14, 16);
+        int second = digits(s, 17, 19);
+        if ((year | month | day | hour | minute | second | nanos) < 0) {
+            return null;
+        }
+        try {
+            return LocalDateTime.of(year, month, day, hour, minute, second, nanos);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    private static int digits(String s, int from, int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            int digit = s.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -3,6 +3,7 @@ package com.example.emotion_storage.global.websocket;
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
 import com.example.emotion_storage.global.security.jwt.JwtTokenProvider;
+import com.example.emotion_storage.global.security.jwt.TokenParseResult;
 import com.example.emotion_storage.global.security.jwt.TokenStatus;
 import java.security.Principal;
 import lombok.NonNull;
@@ -42,7 +43,8 @@ public class StompHandler implements ChannelInterceptor {
 
             String token = authHeader.substring(TOKEN_PREFIX.length());
 
-            TokenStatus status = jwtTokenProvider.validateToken(token);
+            TokenParseResult parsed = jwtTokenProvider.parse(token);
+            TokenStatus status = parsed.status();
 
             if (status != TokenStatus.VALID) {
                 throw new BaseException(status == TokenStatus.EXPIRED
@@ -50,7 +52,7 @@ public class StompHandler implements ChannelInterceptor {
                         : ErrorCode.ACCESS_TOKEN_INVALID);
             }
 
-            Long userId = jwtTokenProvider.getUserIdFromToken(token);
+            Long userId = parsed.userId();
 
             // STOMP user를 "Principal(name=userId)"로 통일
             accessor.setUser((Principal) () -> String.valueOf(userId));
@@ -0,0 +1,23 @@
+package com.example.emotion_storage.home.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 홈 카운터 캐시에 저장하는 사용자별 홈 화면 값
+ * 티켓은 ticketDate(KST) 기준으로 계산한 값이라 날짜가 바뀌면, 도착한 타임캡슐 수는 다음 타임캡슐이 도착하면 다시 조회해야 한다.
+ */
+public record HomeCounters(
+        String userName,
+        Long remainingTickets,
+        LocalDate ticketDate,
+        Long keyCount,
+        long unreadNotificationCount,
+        long arrivedTimeCapsuleCount,
+        Long newReportId,
+        LocalDateTime nextArrivalAt
+) {
+    public boolean isStale(LocalDate today, LocalDateTime now) {
+        return !ticketDate.equals(today) || (nextArrivalAt != null && !now.isBefore(nextArrivalAt));
+    }
+}
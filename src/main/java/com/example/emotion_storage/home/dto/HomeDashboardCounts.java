@@ -0,0 +1,16 @@
+package com.example.emotion_storage.home.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 홈 화면의 알림/타임캡슐/리포트 상태를 한 번에 조회할 때 쓰는 프로젝션
+ * newReportId는 가장 최근 일일리포트를 아직 열어보지 않았을 때만 값이 있다.
+ * nextArrivalAt은 아직 도착하지 않은 타임캡슐 중 가장 먼저 도착하는 시각이다.
+ */
+public record HomeDashboardCounts(
+        Long unreadNotificationCount,
+        Long arrivedTimeCapsuleCount,
+        Long newReportId,
+        LocalDateTime nextArrivalAt
+) {
+}
@@ -0,0 +1,8 @@
+package com.example.emotion_storage.home.event;
+
+/**
+ * 홈 화면에 보이는 값(알림, 타임캡슐, 리포트, 열쇠, 티켓, 닉네임)이 바뀌었음을 알리는 이벤트
+ * 트랜잭션이 커밋된 뒤 해당 사용자의 홈 카운터 캐시를 무효화한다.
+ */
+public record HomeCountersChangedEvent(Long userId) {
+}
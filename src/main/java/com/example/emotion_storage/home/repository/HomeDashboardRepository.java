@@ -0,0 +1,50 @@
+package com.example.emotion_storage.home.repository;
+
+import com.example.emotion_storage.home.dto.HomeDashboardCounts;
+import com.example.emotion_storage.user.domain.User;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * 홈 화면 조회 전용 리포지토리
+ * 미열람 알림 수, 도착한 미확인 타임캡슐 수, 미확인 최신 일일리포트 ID, 다음 타임캡슐 도착 시각을 서브쿼리로 묶어 한 번에 조회한다.
+ */
+public interface HomeDashboardRepository extends Repository<User, Long> {
+
+    @Query("""
+    SELECT new com.example.emotion_storage.home.dto.HomeDashboardCounts(
+        (SELECT COUNT(n) FROM Notification n
+         WHERE n.user.id = u.id AND n.isRead = false AND n.deletedAt IS NULL),
+        (SELECT COUNT(tc) FROM TimeCapsule tc
+         WHERE tc.user.id = u.id
+           AND tc.deletedAt IS NULL
+           AND tc.isTempSave = false
+           AND tc.isOpened = false
+           AND tc.openedAt >= :start
+           AND tc.openedAt <= :end),
+        (SELECT MAX(r.id) FROM Report r JOIN r.timeCapsules rtc
+         WHERE rtc.user.id = u.id
+           AND r.isOpened = false
+           AND r.historyDate = (
+               SELECT MAX(latest.historyDate) FROM Report latest JOIN latest.timeCapsules ltc
+               WHERE ltc.user.id = u.id
+           )),
+        (SELECT MIN(upcoming.openedAt) FROM TimeCapsule upcoming
+         WHERE upcoming.user.id = u.id
+           AND upcoming.deletedAt IS NULL
+           AND upcoming.isTempSave = false
+           AND upcoming.isOpened = false
+           AND upcoming.openedAt > :end)
+    )
+    FROM User u
+    WHERE u.id = :userId
+    """)
+    Optional<HomeDashboardCounts> findCounts(
+            @Param("userId") Long userId,
+            @Param("start") LocalDateTime start,
+            @Param("end") LocalDateTime end
+    );
+}
@@ -0,0 +1,186 @@
+package com.example.emotion_storage.home.service;
+
+import com.example.emotion_storage.home.dto.HomeCounters;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
+import com.example.emotion_storage.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 홈 카운터 캐시
+ * 홈 화면 값을 로컬(Caffeine)에 두고, 설정 시 Redis에도 저장해 다른 노드와 공유한다.
+ * 값을 바꾸는 쪽에서 HomeCountersChangedEvent를 발행하면 커밋 이후 무효화하고, 다음 조회에서 다시 불러온다.
+ * 다른 노드의 로컬 캐시는 지울 수 없으므로 로컬 TTL을 짧게 둔다.
+ * 무효화 전에 시작한 조회가 무효화 뒤에 오래된 값을 저장할 수 있으므로, 무효화할 때마다 사용자별 버전을 올리고
+ * 조회를 시작할 때 읽은 버전을 값과 함께 저장해 현재 버전과 다른 값은 없는 것으로 본다.
+ */
+@Slf4j
+@Component
+public class HomeCountersCache {
+
+    private static final String REDIS_KEY_PREFIX = "home:counters:";
+    private static final String REDIS_VERSION_KEY_PREFIX = "home:counters:version:";
+
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> localCache;
+    // 사용자 ID -> 로컬 무효화 버전. 이보다 먼저 저장된 로컬 값이 모두 만료된 뒤에 사라지도록 로컬 TTL의 두 배만큼 둔다.
+    private final Cache<Long, Long> localVersions;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration redisTtl;
+
+    private final LongAdder redisHits = new LongAdder();
+    private final LongAdder redisMisses = new LongAdder();
+
+    public HomeCountersCache(
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisTemplate<String, String>> redisTemplateProvider,
+            @Value("${home.counters-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${home.counters-cache.local-ttl-seconds:30}") long localTtlSeconds,
+            @Value("${home.counters-cache.redis.enabled:false}") boolean redisEnabled,
+            @Value("${home.counters-cache.redis.ttl-seconds:600}") long redisTtlSeconds
+    ) {
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        this.localVersions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds).multipliedBy(2))
+                .build();
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getObject() : null;
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+    }
+
+    private record Entry(long version, HomeCounters counters) {}
+
+    public record Stats(
+            long localHits, long localMisses, double localHitRate,
+            long redisHits, long redisMisses, long localSize
+    ) {}
+
+    /**
+     * 로컬 -> Redis -> loader 순서로 조회한다. 날짜가 바뀌었거나 다음 타임캡슐이 도착한 값은 없는 것으로 본다.
+     */
+    public HomeCounters get(Long userId, Supplier<HomeCounters> loader) {
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        LocalDateTime now = LocalDateTime.now();
+
+        long localVersion = localVersion(userId);
+        Entry local = localCache.getIfPresent(userId);
+        if (local != null && local.version() == localVersion && !local.counters().isStale(today, now)) {
+            return local.counters();
+        }
+
+        RedisEntry redis = readRedis(userId);
+        HomeCounters counters = redis.counters();
+        if (counters == null || counters.isStale(today, now)) {
+            counters = loader.get();
+            writeRedis(userId, new Entry(redis.version(), counters));
+        }
+        localCache.put(userId, new Entry(localVersion, counters));
+        return counters;
+    }
+
+    public void evict(Long userId) {
+        localVersions.asMap().merge(userId, 1L, Long::sum);
+        localCache.invalidate(userId);
+        if (redisTemplate != null) {
+            try {
+                String versionKey = REDIS_VERSION_KEY_PREFIX + userId;
+                redisTemplate.opsForValue().increment(versionKey);
+                // 버전 키가 값보다 먼저 만료되면 오래된 값의 버전과 다시 같아질 수 있으므로 값 TTL의 두 배로 둔다.
+                redisTemplate.expire(versionKey, redisTtl.multipliedBy(2));
+                redisTemplate.delete(REDIS_KEY_PREFIX + userId);
+            } catch (Exception e) {
+                log.warn("[사용자:{}] Redis 홈 카운터 캐시 무효화 실패", userId, e);
+            }
+        }
+        log.debug("[사용자:{}] 홈 카운터 캐시를 무효화했습니다.", userId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onHomeCountersChanged(HomeCountersChangedEvent event) {
+        evict(event.userId());
+    }
+
+    public Stats getStats() {
+        CacheStats stats = localCache.stats();
+        return new Stats(
+                stats.hitCount(), stats.missCount(), stats.hitRate(),
+                redisHits.sum(), redisMisses.sum(), localCache.estimatedSize()
+        );
+    }
+
+    @Scheduled(fixedDelayString = "${home.counters-cache.stats-log-interval:600000}")
+    public void logStats() {
+        Stats stats = getStats();
+        log.info("홈 카운터 캐시 - 로컬 적중 {}건/미적중 {}건 (적중률 {}%), Redis 적중 {}건/미적중 {}건, 로컬 크기 {}",
+                stats.localHits(), stats.localMisses(), String.format("%.1f", stats.localHitRate() * 100),
+                stats.redisHits(), stats.redisMisses(), stats.localSize());
+    }
+
+    private long localVersion(Long userId) {
+        Long version = localVersions.getIfPresent(userId);
+        return version != null ? version : 0L;
+    }
+
+    /**
+     * Redis의 현재 버전과 값을 한 번에 읽는다. 값의 버전이 현재 버전과 다르면 값이 없는 것으로 본다.
+     * Redis를 쓰지 않거나 읽지 못하면 버전 확인 없이 loader로 넘어가도록 null 값을 돌려준다.
+     */
+    private RedisEntry readRedis(Long userId) {
+        if (redisTemplate == null) {
+            return RedisEntry.EMPTY;
+        }
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(REDIS_VERSION_KEY_PREFIX + userId, REDIS_KEY_PREFIX + userId));
+            long version = values != null && values.get(0) != null ? Long.parseLong(values.get(0)) : 0L;
+            String cached = values != null ? values.get(1) : null;
+            Entry entry = cached != null ? objectMapper.readValue(cached, Entry.class) : null;
+            if (entry == null || entry.version() != version) {
+                redisMisses.increment();
+                return new RedisEntry(version, null);
+            }
+            redisHits.increment();
+            return new RedisEntry(version, entry.counters());
+        } catch (Exception e) {
+            log.warn("[사용자:{}] Redis 홈 카운터 캐시 조회 실패", userId, e);
+            return RedisEntry.UNAVAILABLE;
+        }
+    }
+
+    private void writeRedis(Long userId, Entry entry) {
+        if (redisTemplate == null || entry.version() < 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(
+                    REDIS_KEY_PREFIX + userId, objectMapper.writeValueAsString(entry), redisTtl);
+        } catch (Exception e) {
+            log.warn("[사용자:{}] Redis 홈 카운터 캐시 저장 실패", userId, e);
+        }
+    }
+
+    // 버전이 음수면 Redis 버전을 읽지 못한 것이므로 값을 저장하지 않는다.
+    private record RedisEntry(long version, HomeCounters counters) {
+        static final RedisEntry EMPTY = new RedisEntry(0L, null);
+        static final RedisEntry UNAVAILABLE = new RedisEntry(-1L, null);
+    }
+}
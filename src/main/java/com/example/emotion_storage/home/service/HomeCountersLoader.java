@@ -0,0 +1,49 @@
+package com.example.emotion_storage.home.service;
+
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.dto.HomeCounters;
+import com.example.emotion_storage.home.dto.HomeDashboardCounts;
+import com.example.emotion_storage.home.repository.HomeDashboardRepository;
+import com.example.emotion_storage.user.domain.User;
+import com.example.emotion_storage.user.repository.UserRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 홈 카운터 캐시가 비었을 때만 호출되는 조회
+ * 사용자 조회 한 번과 알림/타임캡슐/리포트 상태 조회 한 번을 하나의 읽기 전용 트랜잭션에서 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class HomeCountersLoader {
+
+    private final UserRepository userRepository;
+    private final HomeDashboardRepository homeDashboardRepository;
+
+    @Transactional(readOnly = true)
+    public HomeCounters load(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        LocalDateTime end = LocalDateTime.now();
+        LocalDateTime start = end.minusWeeks(3);
+        HomeDashboardCounts counts = homeDashboardRepository.findCounts(userId, start, end)
+                .orElseThrow(() -> new BaseException(ErrorCode.USER_NOT_FOUND));
+
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        return new HomeCounters(
+                user.getNickname(),
+                user.getRemainingTickets(today),
+                today,
+                user.getKeyCount(),
+                counts.unreadNotificationCount(),
+                counts.arrivedTimeCapsuleCount(),
+                counts.newReportId(),
+                counts.nextArrivalAt()
+        );
+    }
+}
@@ -2,6 +2,7 @@ package com.example.emotion_storage.home.service;
 
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.dto.HomeCounters;
 import com.example.emotion_storage.home.dto.response.HomeInfoResponse;
 import com.example.emotion_storage.home.dto.response.KeyCountResponse;
 import com.example.emotion_storage.home.dto.response.NewDailyReportResponse;
@@ -19,6 +20,7 @@ import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
@@ -27,38 +29,36 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class HomeService {
 
-    private static final Long DAILY_TICKET_LIMIT = 10L;
-    
     private final UserRepository userRepository;
     private final TimeCapsuleRepository timeCapsuleRepository;
     private final ReportRepository reportRepository;
     private final NotificationRepository notificationRepository;
-
+    private final HomeCountersLoader homeCountersLoader;
+    private final HomeCountersCache homeCountersCache;
+
+    /**
+     * 홈 카운터 캐시에 있으면 DB를 조회하지 않고 트랜잭션도 열지 않는다.
+     * 없으면 HomeCountersLoader가 사용자 조회 한 번과 알림/타임캡슐/리포트 상태 조회 한 번, 총 두 번의 쿼리로 불러온다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public HomeInfoResponse getHomeInfo(Long userId) {
         log.info("사용자 홈 정보 조회 요청 - userId: {}", userId);
 
-        // 사용자 존재 여부 확인
-        User user = findUserById(userId);
-
-        // 각종 정보 조회
-        TicketStatusResponse ticketStatus = getTicketStatus(userId);
-        KeyCountResponse keyCount = getKeyCount(userId);
-        NewNotificationResponse notificationStatus = getNewNotificationStatus(userId);
-        NewTimeCapsuleResponse timeCapsuleStatus = getNewTimeCapsuleStatus(userId);
-        NewDailyReportResponse reportStatus = getNewDailyReportStatus(userId);
+        HomeCounters counters = homeCountersCache.get(userId, () -> homeCountersLoader.load(userId));
+        boolean hasNewReport = counters.newReportId() != null;
 
         HomeInfoResponse response = HomeInfoResponse.builder()
-                .userName(user.getNickname())
-                .remainingTickets(ticketStatus.getRemainingTickets())
-                .dailyLimit(ticketStatus.getDailyLimit())
-                .keyCount(keyCount.getKeyCount())
-                .hasNewNotification(notificationStatus.isHasNewNotification())
-                .notificationCount(notificationStatus.getCount())
-                .hasNewTimeCapsule(timeCapsuleStatus.isHasNewCapsule())
-                .timeCapsuleCount(timeCapsuleStatus.getCount())
-                .hasNewReport(reportStatus.isHasNewReport())
-                .reportCount(reportStatus.getCount())
-                .reportId(reportStatus.getReportId())
+                .userName(counters.userName())
+                .remainingTickets(counters.remainingTickets())
+                .dailyLimit(User.DAILY_TICKET_COUNT)
+                .keyCount(counters.keyCount())
+                .hasNewNotification(counters.unreadNotificationCount() > 0)
+                .notificationCount((int) counters.unreadNotificationCount())
+                .hasNewTimeCapsule(counters.arrivedTimeCapsuleCount() > 0)
+                .timeCapsuleCount((int) counters.arrivedTimeCapsuleCount())
+                .hasNewReport(hasNewReport)
+                .reportCount(hasNewReport ? 1 : 0)
+                .reportId(counters.newReportId())
                 .build();
 
         log.info("사용자 홈 정보 조회 완료 - userId: {}, remainingTickets: {}, keyCount: {}, hasNewNotification: {}, hasNewTimeCapsule: {}, hasNewReport: {}",
@@ -74,8 +74,8 @@ public class HomeService {
         User user = findUserById(userId);
         
         TicketStatusResponse response = TicketStatusResponse.builder()
-                .remainingTickets(user.getTicketCount())
-                .dailyLimit(DAILY_TICKET_LIMIT)
+                .remainingTickets(user.getRemainingTickets())
+                .dailyLimit(User.DAILY_TICKET_COUNT)
                 .build();
         
         log.info("사용자 티켓 상태 조회 완료 - userId: {}, remainingTickets: {}, dailyLimit: {}", 
@@ -2,6 +2,7 @@ package com.example.emotion_storage.mypage.service;
 
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.mypage.dto.request.NicknameChangeRequest;
 import com.example.emotion_storage.mypage.dto.request.NotificationSettingsUpdateRequest;
 import com.example.emotion_storage.mypage.dto.response.MyPageOverviewResponse;
@@ -18,6 +19,7 @@ import java.time.temporal.ChronoUnit;
 import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +32,7 @@ public class MyPageService {
 
     private final UserRepository userRepository;
     private final TokenService tokenService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public MyPageOverviewResponse getMyPageOverview(Long userId) {
@@ -47,6 +50,7 @@ public class MyPageService {
         log.info("사용자 {}의 닉네임을 수정합니다.", userId);
         validateNickname(request.nickname());
         user.updateNickname(request.nickname());
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
     }
 
     @Transactional(readOnly = true)
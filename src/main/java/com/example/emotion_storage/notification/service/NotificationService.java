@@ -2,6 +2,7 @@ package com.example.emotion_storage.notification.service;
 
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.notification.domain.Notification;
 import com.example.emotion_storage.notification.domain.NotificationType;
 import com.example.emotion_storage.notification.dto.response.NotificationListResponse;
@@ -11,6 +12,7 @@ import com.example.emotion_storage.user.repository.UserRepository;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +30,7 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = true)
     public NotificationListResponse fetchNotifications(int page, int limit, Long userId) {
@@ -74,5 +77,6 @@ public class NotificationService {
                 .arrivedAt(LocalDateTime.now())
                 .build();
         notificationRepository.save(notification);
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
     }
 }
@@ -1,6 +1,7 @@
 package com.example.emotion_storage.report.domain;
 
 import com.example.emotion_storage.global.entity.BaseTimeEntity;
+import com.example.emotion_storage.global.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -15,7 +16,15 @@ import java.time.LocalDateTime;
 public class EmotionVariation extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "emotion_variation_id_generator")
+    @TableGenerator(
+            name = "emotion_variation_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "emotion_variation",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     @Column(name = "emotion_variation_id")
     private Long id;
 
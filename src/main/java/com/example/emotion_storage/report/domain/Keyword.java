@@ -1,5 +1,6 @@
 package com.example.emotion_storage.report.domain;
 
+import com.example.emotion_storage.global.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -12,7 +13,15 @@ import lombok.*;
 public class Keyword {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "keywords_id_generator")
+    @TableGenerator(
+            name = "keywords_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "keywords",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     @Column(name = "keyword_id")
     private Long id;
 
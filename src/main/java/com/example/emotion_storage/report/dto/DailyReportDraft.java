@@ -0,0 +1,14 @@
+package com.example.emotion_storage.report.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * AI 서버 호출 전에 준비한 일일 리포트 재료 (트랜잭션 밖에서 AI 서버를 호출하기 위해 엔티티 대신 ID만 담는다)
+ */
+public record DailyReportDraft(
+        Long userId,
+        LocalDate historyDate,
+        List<Long> timeCapsuleIds,
+        String referenceMessage
+) {}
@@ -0,0 +1,362 @@
+package com.example.emotion_storage.report.scheduler;
+
+import com.example.emotion_storage.global.config.scheduler.BlockingTaskExecutors;
+import com.example.emotion_storage.report.dto.DailyReportDraft;
+import com.example.emotion_storage.report.dto.response.DailyReportGenerateResponse;
+import com.example.emotion_storage.report.service.DailyReportGenerateService;
+import com.example.emotion_storage.timecapsule.repository.TimeCapsuleRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 리포트 생성 스케줄러
+ * 전날 타임캡슐이 있고 리포트가 아직 없는 사용자만 ID 순으로 page-size명씩 조회해 worker-count개의 작업 스레드에서 사용자별로 리포트를 만든다.
+ * 한 페이지가 끝날 때마다 마지막 사용자 ID를 Redis에 체크포인트로 남겨, 서버가 중간에 내려가도 다음 기동 시 그 뒤부터 이어간다.
+ * 사용자별 생성은 이미 리포트가 있으면 건너뛰므로 같은 페이지를 다시 처리해도 안전하다.
+ * 생성에 실패한 사용자는 Redis에 기록해 두었다가 마지막 페이지 뒤에 한 번 더 시도한다.
+ * 여러 노드가 같은 시각에 스케줄러를 실행하므로 대상 날짜별 Redis 락을 잡은 노드만 생성한다.
+ */
+@Slf4j
+@Component
+public class DailyReportScheduler {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String CHECKPOINT_KEY_PREFIX = "daily-report:checkpoint:";
+    private static final String FAILED_KEY_PREFIX = "daily-report:failed:";
+    private static final String LOCK_KEY_PREFIX = "daily-report:lock:";
+    private static final String NOT_STARTED = "0";
+    private static final String COMPLETED = "DONE";
+    private static final Duration CHECKPOINT_TTL = Duration.ofDays(2);
+
+    // 락 값이 이 노드의 토큰일 때만 만료 시간을 늘리거나 지운다.
+    private static final RedisScript<Long> EXPIRE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('pexpire', KEYS[1], ARGV[2]) end return 0", Long.class);
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final TimeCapsuleRepository timeCapsuleRepository;
+    private final DailyReportGenerateService dailyReportGenerateService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ThreadPoolTaskExecutor workers;
+    private final int pageSize;
+    private final boolean resumeOnStartup;
+    private final Duration lockTtl;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    private static class RunStats {
+        private final LongAdder success = new LongAdder();
+        private final LongAdder skip = new LongAdder();
+        private final LongAdder error = new LongAdder();
+        private final ConcurrentLinkedQueue<Long> failedUserIds = new ConcurrentLinkedQueue<>();
+    }
+
+    private record RunLock(String key, String token) {}
+
+    public DailyReportScheduler(
+            TimeCapsuleRepository timeCapsuleRepository,
+            DailyReportGenerateService dailyReportGenerateService,
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${report.daily.worker-count:8}") int workerCount,
+            @Value("${report.daily.page-size:200}") int pageSize,
+            @Value("${report.daily.resume-on-startup:true}") boolean resumeOnStartup,
+            @Value("${report.daily.lock-ttl-minutes:5}") long lockTtlMinutes,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        this.timeCapsuleRepository = timeCapsuleRepository;
+        this.dailyReportGenerateService = dailyReportGenerateService;
+        this.redisTemplate = redisTemplate;
+        this.pageSize = Math.max(1, pageSize);
+        this.resumeOnStartup = resumeOnStartup;
+        this.lockTtl = Duration.ofMinutes(Math.max(1, lockTtlMinutes));
+
+        // 대기열은 한 번에 한 페이지만 제출하므로 page-size, 종료 대기는 AI 서버 read timeout(120초)보다 길게 둔다.
+        this.workers = BlockingTaskExecutors.create(
+                "daily-report-", Math.max(1, workerCount), this.pageSize, 130, virtualThreadsEnabled
+        );
+    }
+
+    /**
+     * 매일 KST 기준 00시 01분에 전날 타임캡슐을 종합하여 일일 리포트 생성
+     */
+    @Scheduled(cron = "0 1 0 * * ?", zone = "Asia/Seoul")
+    public void generateDailyReportsForAllUsers() {
+        generateDailyReports(LocalDate.now(KST).minusDays(1));
+    }
+
+    /**
+     * 전날 리포트 생성이 끝나지 않은 채 서버가 재시작되었다면 체크포인트부터 이어서 생성한다.
+     * 내려간 노드가 잡고 있던 락이 아직 남아 있으면 락이 만료될 때까지 기다렸다가 한 번 더 시도한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRun() {
+        if (!resumeOnStartup) {
+            return;
+        }
+
+        LocalDate yesterday = LocalDate.now(KST).minusDays(1);
+        String checkpoint = readCheckpoint(yesterday);
+        if (checkpoint == null || COMPLETED.equals(checkpoint)) {
+            return;
+        }
+
+        log.info("중단된 일일 리포트 생성을 이어서 진행합니다 - 대상 날짜: {}, 마지막 사용자 ID: {}", yesterday, checkpoint);
+        Thread resumeThread = new Thread(() -> {
+            if (run(yesterday)) {
+                return;
+            }
+            try {
+                Thread.sleep(lockTtl.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            run(yesterday);
+        }, "daily-report-resume");
+        resumeThread.start();
+    }
+
+    public void generateDailyReports(LocalDate targetDate) {
+        run(targetDate);
+    }
+
+    /**
+     * 다른 노드가 같은 날짜의 락을 잡고 있어 실행하지 못했으면 false를 반환한다.
+     */
+    private boolean run(LocalDate targetDate) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("일일 리포트 생성이 이미 진행 중입니다 - 대상 날짜: {}", targetDate);
+            return true;
+        }
+
+        RunLock lock = null;
+        try {
+            lock = acquireLock(targetDate);
+            if (lock == null) {
+                log.info("다른 노드가 일일 리포트를 생성하고 있습니다 - 대상 날짜: {}", targetDate);
+                return false;
+            }
+
+            String checkpoint = readCheckpoint(targetDate);
+            if (COMPLETED.equals(checkpoint)) {
+                log.info("이미 완료된 일일 리포트 생성입니다 - 대상 날짜: {}", targetDate);
+                return true;
+            }
+            if (checkpoint == null) {
+                // 첫 페이지 도중 내려가도 재기동 시 이어서 진행하도록 시작 시점을 먼저 남긴다.
+                writeCheckpoint(targetDate, NOT_STARTED);
+            }
+
+            long afterUserId = checkpoint != null ? Long.parseLong(checkpoint) : 0L;
+            log.info("일일 리포트 생성 스케줄러 시작 - 대상 날짜: {}, 시작 사용자 ID: {}", targetDate, afterUserId);
+
+            LocalDateTime startOfDay = targetDate.atStartOfDay();
+            LocalDateTime startOfNextDay = targetDate.plusDays(1).atStartOfDay();
+            RunStats stats = new RunStats();
+            while (true) {
+                List<Long> userIds = timeCapsuleRepository.findDailyReportCandidateUserIds(
+                        startOfDay, startOfNextDay, targetDate, afterUserId, PageRequest.of(0, pageSize)
+                );
+                if (userIds.isEmpty()) {
+                    break;
+                }
+
+                generateAll(userIds, targetDate, stats, lock);
+
+                afterUserId = userIds.get(userIds.size() - 1);
+                writeCheckpoint(targetDate, String.valueOf(afterUserId));
+                log.info("일일 리포트 생성 진행 - 마지막 사용자 ID: {}, 성공: {}, 스킵: {}, 실패: {}",
+                        afterUserId, stats.success.sum(), stats.skip.sum(), stats.error.sum());
+
+                if (userIds.size() < pageSize) {
+                    break;
+                }
+            }
+
+            retryFailedUsers(targetDate, stats, lock);
+
+            writeCheckpoint(targetDate, COMPLETED);
+            log.info("일일 리포트 생성 완료 - 성공: {}, 스킵: {}, 실패: {}",
+                    stats.success.sum(), stats.skip.sum(), stats.error.sum());
+        } catch (Exception e) {
+            log.error("일일 리포트 생성 스케줄러 실행 중 오류 발생", e);
+        } finally {
+            releaseLock(lock);
+            running.set(false);
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+
+    private void generateAll(Iterable<Long> userIds, LocalDate targetDate, RunStats stats, RunLock lock) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Long userId : userIds) {
+            futures.add(CompletableFuture.runAsync(() -> generateForUser(userId, targetDate, stats, lock), workers));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * 이번 실행과 중단되기 전 실행에서 실패한 사용자를 한 번 더 생성한다. 다시 실패한 사용자는 기록을 남겨 둔다.
+     */
+    private void retryFailedUsers(LocalDate targetDate, RunStats stats, RunLock lock) {
+        Set<Long> failedUserIds = new HashSet<>(stats.failedUserIds);
+        failedUserIds.addAll(readFailedUsers(targetDate));
+        if (failedUserIds.isEmpty()) {
+            return;
+        }
+
+        log.info("실패한 사용자의 일일 리포트 생성을 다시 시도합니다 - 대상 날짜: {}, 사용자 수: {}",
+                targetDate, failedUserIds.size());
+        RunStats retryStats = new RunStats();
+        generateAll(failedUserIds, targetDate, retryStats, lock);
+
+        Set<Long> stillFailed = new HashSet<>(retryStats.failedUserIds);
+        failedUserIds.stream()
+                .filter(userId -> !stillFailed.contains(userId))
+                .forEach(userId -> removeFailedUser(targetDate, userId));
+        stats.success.add(retryStats.success.sum());
+        stats.skip.add(retryStats.skip.sum());
+        stats.error.reset();
+        stats.error.add(stillFailed.size());
+        if (!stillFailed.isEmpty()) {
+            log.warn("다시 시도해도 일일 리포트를 생성하지 못한 사용자 - 대상 날짜: {}, 사용자 ID: {}", targetDate, stillFailed);
+        }
+    }
+
+    /**
+     * 조회와 저장은 각각의 트랜잭션에서, AI 서버 호출은 트랜잭션 밖에서 실행한다.
+     */
+    private void generateForUser(Long userId, LocalDate targetDate, RunStats stats, RunLock lock) {
+        try {
+            Optional<DailyReportDraft> draft = dailyReportGenerateService.prepareDailyReport(userId, targetDate);
+            if (draft.isEmpty()) {
+                stats.skip.increment();
+                return;
+            }
+
+            DailyReportGenerateResponse aiResponse = dailyReportGenerateService.requestDailyReport(draft.get());
+            if (dailyReportGenerateService.saveDailyReport(draft.get(), aiResponse)) {
+                stats.success.increment();
+            } else {
+                stats.skip.increment();
+            }
+        } catch (Exception e) {
+            log.error("사용자 ID {}의 일일 리포트 생성 중 오류 발생", userId, e);
+            stats.error.increment();
+            stats.failedUserIds.add(userId);
+            recordFailedUser(targetDate, userId);
+        } finally {
+            extendLock(lock);
+        }
+    }
+
+    /**
+     * 대상 날짜의 락을 잡는다. Redis에 접근하지 못하면 체크포인트와 마찬가지로 락 없이 진행한다.
+     */
+    private RunLock acquireLock(LocalDate targetDate) {
+        RunLock lock = new RunLock(LOCK_KEY_PREFIX + targetDate, UUID.randomUUID().toString());
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(lock.key(), lock.token(), lockTtl);
+            return Boolean.TRUE.equals(acquired) ? lock : null;
+        } catch (Exception e) {
+            log.warn("일일 리포트 락을 잡지 못해 락 없이 진행합니다 - 대상 날짜: {}", targetDate, e);
+            return lock;
+        }
+    }
+
+    private void extendLock(RunLock lock) {
+        try {
+            redisTemplate.execute(EXPIRE_IF_EQUALS, List.of(lock.key()), lock.token(), String.valueOf(lockTtl.toMillis()));
+        } catch (Exception e) {
+            log.warn("일일 리포트 락 연장 실패 - 키: {}", lock.key(), e);
+        }
+    }
+
+    private void releaseLock(RunLock lock) {
+        if (lock == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(DELETE_IF_EQUALS, List.of(lock.key()), lock.token());
+        } catch (Exception e) {
+            log.warn("일일 리포트 락 해제 실패 - 키: {}", lock.key(), e);
+        }
+    }
+
+    private Set<Long> readFailedUsers(LocalDate targetDate) {
+        Set<Long> userIds = new HashSet<>();
+        try {
+            Set<String> members = redisTemplate.opsForSet().members(FAILED_KEY_PREFIX + targetDate);
+            if (members != null) {
+                members.forEach(member -> userIds.add(Long.parseLong(member)));
+            }
+        } catch (Exception e) {
+            log.warn("일일 리포트 실패 사용자 목록을 읽지 못했습니다 - 대상 날짜: {}", targetDate, e);
+        }
+        return userIds;
+    }
+
+    private void recordFailedUser(LocalDate targetDate, Long userId) {
+        try {
+            String key = FAILED_KEY_PREFIX + targetDate;
+            redisTemplate.opsForSet().add(key, String.valueOf(userId));
+            redisTemplate.expire(key, CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("일일 리포트 실패 사용자 기록 실패 - 대상 날짜: {}, 사용자 ID: {}", targetDate, userId, e);
+        }
+    }
+
+    private void removeFailedUser(LocalDate targetDate, Long userId) {
+        try {
+            redisTemplate.opsForSet().remove(FAILED_KEY_PREFIX + targetDate, String.valueOf(userId));
+        } catch (Exception e) {
+            log.warn("일일 리포트 실패 사용자 기록 삭제 실패 - 대상 날짜: {}, 사용자 ID: {}", targetDate, userId, e);
+        }
+    }
+
+    private String readCheckpoint(LocalDate targetDate) {
+        try {
+            return redisTemplate.opsForValue().get(CHECKPOINT_KEY_PREFIX + targetDate);
+        } catch (Exception e) {
+            log.warn("일일 리포트 체크포인트를 읽지 못해 처음부터 진행합니다 - 대상 날짜: {}", targetDate, e);
+            return null;
+        }
+    }
+
+    private void writeCheckpoint(LocalDate targetDate, String value) {
+        try {
+            redisTemplate.opsForValue().set(CHECKPOINT_KEY_PREFIX + targetDate, value, CHECKPOINT_TTL);
+        } catch (Exception e) {
+            log.warn("일일 리포트 체크포인트 저장 실패 - 대상 날짜: {}, 값: {}", targetDate, value, e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.emotion_storage.report.service;
+
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 리포트 AI 서버 호출 속도 제한
+ * 호출 사이 간격을 1초 / requests-per-second로 고르게 벌린다. 0 이하면 제한하지 않는다.
+ */
+@Component
+public class DailyReportAiRateLimiter {
+
+    private final long intervalNanos;
+    private long nextPermitNanos = System.nanoTime();
+
+    public DailyReportAiRateLimiter(@Value("${report.daily.ai-requests-per-second:5}") double requestsPerSecond) {
+        this.intervalNanos = requestsPerSecond <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond);
+    }
+
+    public void acquire() {
+        if (intervalNanos == 0) {
+            return;
+        }
+
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            long permitAt = Math.max(now, nextPermitNanos);
+            nextPermitNanos = permitAt + intervalNanos;
+            waitNanos = permitAt - now;
+        }
+
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("AI 서버 호출 대기 중 인터럽트되었습니다.", e);
+            }
+        }
+    }
+}
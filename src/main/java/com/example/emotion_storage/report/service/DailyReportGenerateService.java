@@ -6,6 +6,7 @@ import com.example.emotion_storage.notification.service.NotificationService;
 import com.example.emotion_storage.report.domain.EmotionVariation;
 import com.example.emotion_storage.report.domain.Keyword;
 import com.example.emotion_storage.report.domain.Report;
+import com.example.emotion_storage.report.dto.DailyReportDraft;
 import com.example.emotion_storage.report.dto.request.DailyReportGenerateRequest;
 import com.example.emotion_storage.report.dto.response.DailyReportGenerateResponse;
 import com.example.emotion_storage.report.repository.ReportRepository;
@@ -13,14 +14,11 @@ import com.example.emotion_storage.timecapsule.domain.AnalyzedEmotion;
 import com.example.emotion_storage.timecapsule.domain.AnalyzedFeedback;
 import com.example.emotion_storage.timecapsule.domain.TimeCapsule;
 import com.example.emotion_storage.timecapsule.repository.TimeCapsuleRepository;
-import com.example.emotion_storage.user.domain.User;
-import com.example.emotion_storage.user.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.HttpClientErrorException;
@@ -29,8 +27,8 @@ import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -38,12 +36,12 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class DailyReportGenerateService {
 
-    private final UserRepository userRepository;
     private final TimeCapsuleRepository timeCapsuleRepository;
     private final ReportRepository reportRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
     private final NotificationService notificationService;
+    private final DailyReportAiRateLimiter aiRateLimiter;
 
     @Value("${ai.server.base-url:http://localhost:8000}")
     private String aiServerBaseUrl;
@@ -51,91 +49,68 @@ public class DailyReportGenerateService {
     private static final String REFERENCE_MESSAGE_PREFIX = "다음은 오늘 하루 동안 생성된 복수의 타임캡슐이야.\n\n";
 
     /**
-     * 매일 KST 기준 00시 01분에 전날 타임캡슐을 종합하여 일일 리포트 생성
+     * 리포트 생성에 필요한 타임캡슐을 조회한다. 이미 리포트가 있거나 타임캡슐이 없으면 빈 값을 반환한다.
      */
-   @Scheduled(cron = "0 1 0 * * ?", zone = "Asia/Seoul")
-    @Transactional
-    public void generateDailyReportsForAllUsers() {
-        LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
-        LocalDate yesterday = now.toLocalDate().minusDays(1);
-        
-        log.info("일일 리포트 생성 스케줄러 시작 - 대상 날짜: {}", yesterday);
-        
-        try {
-            List<User> activeUsers = userRepository.findAllActiveUsers();
-            log.info("활성 사용자 수: {}", activeUsers.size());
-            
-            int successCount = 0;
-            int skipCount = 0;
-            int errorCount = 0;
-            
-            for (User user : activeUsers) {
-                try {
-                    boolean generated = generateDailyReportForUser(user, yesterday);
-                    if (generated) {
-                        successCount++;
-                    } else {
-                        skipCount++;
-                    }
-                } catch (Exception e) {
-                    log.error("사용자 ID {}의 일일 리포트 생성 중 오류 발생", user.getId(), e);
-                    errorCount++;
-                }
-            }
-            
-            log.info("일일 리포트 생성 완료 - 성공: {}, 스킵: {}, 실패: {}", successCount, skipCount, errorCount);
-            
-        } catch (Exception e) {
-            log.error("일일 리포트 생성 스케줄러 실행 중 오류 발생", e);
-            throw new BaseException(ErrorCode.DAILY_REPORT_GENERATION_FAILED);
-        }
-    }
-
-    /**
-     * 특정 사용자에 대해 전날 타임캡슐을 종합하여 일일 리포트 생성
-     */
-    @Transactional
-    public boolean generateDailyReportForUser(User user, LocalDate targetDate) {
-        log.info("일일 리포트 생성 시작 - userId: {}, date: {}", user.getId(), targetDate);
+    @Transactional(readOnly = true)
+    public Optional<DailyReportDraft> prepareDailyReport(Long userId, LocalDate targetDate) {
+        log.info("일일 리포트 생성 시작 - userId: {}, date: {}", userId, targetDate);
         
         // 이미 리포트가 존재하는지 확인
-        boolean reportExists = reportRepository.findByUserIdAndHistoryDate(user.getId(), targetDate).isPresent();
+        boolean reportExists = reportRepository.findByUserIdAndHistoryDate(userId, targetDate).isPresent();
         if (reportExists) {
-            log.info("이미 존재하는 리포트 - userId: {}, date: {}", user.getId(), targetDate);
-            return false;
+            log.info("이미 존재하는 리포트 - userId: {}, date: {}", userId, targetDate);
+            return Optional.empty();
         }
         
         // 전날 타임캡슐 조회
         LocalDateTime startOfDay = targetDate.atStartOfDay();
         LocalDateTime startOfNextDay = targetDate.plusDays(1).atStartOfDay();
         List<TimeCapsule> timeCapsules = timeCapsuleRepository.findByUserIdAndHistoryDate(
-                user.getId(),
+                userId,
                 startOfDay,
                 startOfNextDay
         );
         
         if (timeCapsules.isEmpty()) {
-            log.info("타임캡슐이 없어 리포트 생성 스킵 - userId: {}, date: {}", user.getId(), targetDate);
-            return false;
+            log.info("타임캡슐이 없어 리포트 생성 스킵 - userId: {}, date: {}", userId, targetDate);
+            return Optional.empty();
         }
         
-        log.info("타임캡슐 발견 - userId: {}, date: {}, count: {}", user.getId(), targetDate, timeCapsules.size());
+        log.info("타임캡슐 발견 - userId: {}, date: {}, count: {}", userId, targetDate, timeCapsules.size());
         
         // 타임캡슐 정보를 문자열로 변환
-        String referenceMessage = buildReferenceMessage(timeCapsules);
-        
-        // AI 서버로 요청 전송
-        DailyReportGenerateResponse aiResponse = callAiServer(referenceMessage);
-        
-        // AI 응답을 Report 엔티티로 변환하여 저장
-        Report report = convertToReport(user, targetDate, timeCapsules, aiResponse);
+        List<Long> timeCapsuleIds = timeCapsules.stream().map(TimeCapsule::getId).toList();
+        return Optional.of(new DailyReportDraft(userId, targetDate, timeCapsuleIds, buildReferenceMessage(timeCapsules)));
+    }
+
+    /**
+     * AI 서버에 리포트 생성을 요청한다. 트랜잭션 밖에서 호출해 응답을 기다리는 동안 DB 커넥션을 잡지 않는다.
+     */
+    public DailyReportGenerateResponse requestDailyReport(DailyReportDraft draft) {
+        aiRateLimiter.acquire();
+        return callAiServer(draft.referenceMessage());
+    }
+
+    /**
+     * AI 응답을 Report 엔티티로 변환하여 저장하고 알림을 남긴다.
+     */
+    @Transactional
+    public boolean saveDailyReport(DailyReportDraft draft, DailyReportGenerateResponse aiResponse) {
+        // AI 서버 응답을 기다리는 동안 다른 실행이 먼저 저장했을 수 있다.
+        if (reportRepository.findByUserIdAndHistoryDate(draft.userId(), draft.historyDate()).isPresent()) {
+            log.info("이미 존재하는 리포트 - userId: {}, date: {}", draft.userId(), draft.historyDate());
+            return false;
+        }
+
+        List<TimeCapsule> timeCapsules = timeCapsuleRepository.findAllById(draft.timeCapsuleIds());
+        Report report = convertToReport(draft.historyDate(), timeCapsules, aiResponse);
         reportRepository.save(report);
 
         // 알림 저장
-        notificationService.createDailyReportArrival(user.getId(), report.getId());
+        notificationService.createDailyReportArrival(draft.userId(), report.getId());
         
         log.info("일일 리포트 생성 완료 - userId: {}, date: {}, reportId: {}", 
-                user.getId(), targetDate, report.getId());
+                draft.userId(), draft.historyDate(), report.getId());
         
         return true;
     }
@@ -251,7 +226,7 @@ public class DailyReportGenerateService {
     /**
      * AI 서버 응답을 Report 엔티티로 변환
      */
-    private Report convertToReport(User user, LocalDate historyDate, 
+    private Report convertToReport(LocalDate historyDate,
                                    List<TimeCapsule> timeCapsules,
                                    DailyReportGenerateResponse aiResponse) {
         // summaries를 하나의 문자열로 합치기
@@ -2,11 +2,13 @@ package com.example.emotion_storage.report.service;
 
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.report.domain.Report;
 import com.example.emotion_storage.report.dto.response.DailyReportDetailResponse;
 import com.example.emotion_storage.report.repository.ReportRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.time.format.DateTimeParseException;
 public class ReportService {
 
     private final ReportRepository reportRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public DailyReportDetailResponse getDailyReportDetail(Long userId, String dateString) {
@@ -28,6 +31,7 @@ public class ReportService {
         LocalDate historyDate = parseDate(dateString);
         Report report = findReportByUserIdAndDate(userId, historyDate);
         report.open();
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
         
         DailyReportDetailResponse response = DailyReportDetailResponse.from(report);
         
@@ -41,6 +45,7 @@ public class ReportService {
 
         Report report = findReportByReportId(reportId);
         report.open();
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
 
         DailyReportDetailResponse response = DailyReportDetailResponse.from(report);
 
@@ -9,6 +9,7 @@ import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleNoteUpdate
 import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleOpenDateUpdateRequest;
 import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleSaveRequest;
 import com.example.emotion_storage.timecapsule.dto.response.ArrivedTimeCapsuleCountResponse;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleDetailResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleExistDateResponse;
@@ -16,6 +17,7 @@ import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleFavoriteR
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleListResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleOpenDateUpdateResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleSaveResponse;
+import com.example.emotion_storage.timecapsule.service.TimeCapsuleCreateJobService;
 import com.example.emotion_storage.timecapsule.service.TimeCapsuleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -43,6 +45,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class TimeCapsuleController {
 
     private final TimeCapsuleService timeCapsuleService;
+    private final TimeCapsuleCreateJobService timeCapsuleCreateJobService;
 
     @PostMapping("/create")
     @Operation(summary = "타임캡슐 생성", description = "대화를 기반으로 타임캡슐을 생성합니다.")
@@ -58,6 +61,34 @@ public class TimeCapsuleController {
         ));
     }
 
+    @PostMapping("/create-async")
+    @Operation(summary = "타임캡슐 비동기 생성", description = "타임캡슐 생성 작업을 등록하고 작업 ID를 바로 반환합니다. 완료되면 /sub/chatroom/{id}로 알립니다.")
+    public ResponseEntity<ApiResponse<TimeCapsuleCreateJobResponse>> createTimeCapsuleAsync(
+            @RequestBody TimeCapsuleCreateRequest request,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : 1L; // TODO: 개발 테스트를 위한 코드
+        log.info("사용자 {}의 채팅방 {}에 대한 타임캡슐 생성 작업을 등록합니다.", userId, request.chatroomId());
+        return ResponseEntity.ok(ApiResponse.success(
+                HttpStatus.ACCEPTED.value(),
+                SuccessMessage.CREATE_TIME_CAPSULE_JOB_SUCCESS.getMessage(),
+                timeCapsuleCreateJobService.enqueue(request, userId)
+        ));
+    }
+
+    @GetMapping("/create-jobs/{jobId}")
+    @Operation(summary = "타임캡슐 생성 작업 조회", description = "타임캡슐 생성 작업의 진행 상태와 생성된 타임캡슐 ID를 반환합니다.")
+    public ResponseEntity<ApiResponse<TimeCapsuleCreateJobResponse>> getTimeCapsuleCreateJob(
+            @PathVariable String jobId,
+            @AuthenticationPrincipal CustomUserPrincipal userPrincipal
+    ) {
+        Long userId = userPrincipal != null ? userPrincipal.getId() : 1L; // TODO: 개발 테스트를 위한 코드
+        return ResponseEntity.ok(ApiResponse.success(
+                SuccessMessage.GET_TIME_CAPSULE_CREATE_JOB_SUCCESS.getMessage(),
+                timeCapsuleCreateJobService.getJob(jobId, userId)
+        ));
+    }
+
     @PostMapping("/{capsuleId}/openAt")
     public ResponseEntity<ApiResponse<TimeCapsuleOpenDateUpdateResponse>> updateTimeCapsuleOpenDate(
             @PathVariable("capsuleId") Long timeCapsuleId,
@@ -1,6 +1,7 @@
 package com.example.emotion_storage.timecapsule.domain;
 
 import com.example.emotion_storage.global.entity.BaseTimeEntity;
+import com.example.emotion_storage.global.entity.IdGenerators;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,15 @@ import lombok.*;
 public class AnalyzedEmotion extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "analyzed_emotion_id_generator")
+    @TableGenerator(
+            name = "analyzed_emotion_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "analyzed_emotion",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     @Column(name = "analyzed_emotion_id")
     private Long id;
 
@@ -1,6 +1,7 @@
 package com.example.emotion_storage.timecapsule.domain;
 
 import com.example.emotion_storage.global.entity.BaseTimeEntity;
+import com.example.emotion_storage.global.entity.IdGenerators;
 import com.example.emotion_storage.report.domain.Report;
 import com.example.emotion_storage.user.domain.User;
 import jakarta.persistence.*;
@@ -12,14 +13,25 @@ import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "time_capsules")
+@Table(
+        name = "time_capsules",
+        indexes = @Index(name = "idx_time_capsule_history_date_user", columnList = "history_date, user_id")
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
 public class TimeCapsule extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "time_capsules_id_generator")
+    @TableGenerator(
+            name = "time_capsules_id_generator",
+            table = IdGenerators.TABLE,
+            pkColumnName = IdGenerators.PK_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN,
+            pkColumnValue = "time_capsules",
+            allocationSize = IdGenerators.ALLOCATION_SIZE
+    )
     @Column(name = "time_capsule_id")
     private Long id;
 
@@ -0,0 +1,9 @@
+package com.example.emotion_storage.timecapsule.domain;
+
+public enum TimeCapsuleCreateJobStatus {
+    PENDING, RUNNING, COMPLETED, FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.emotion_storage.timecapsule.dto.response;
+
+import com.example.emotion_storage.timecapsule.domain.TimeCapsuleCreateJobStatus;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 타임캡슐 생성 작업 상태 (폴링 응답이자 /sub/chatroom/{id}로 보내는 완료 알림)
+ */
+public record TimeCapsuleCreateJobResponse(
+        String jobId,
+        Long chatroomId,
+        TimeCapsuleCreateJobStatus status,
+        Long timeCapsuleId,
+        String errorMessage
+) {
+    public static final String MESSAGE_TYPE = "timecapsule_job";
+
+    // 채팅 메시지와 같은 채널로 나가므로 클라이언트가 message_type으로 구분한다.
+    @JsonProperty("message_type")
+    public String messageType() {
+        return MESSAGE_TYPE;
+    }
+
+    public static TimeCapsuleCreateJobResponse pending(String jobId, Long chatroomId) {
+        return new TimeCapsuleCreateJobResponse(jobId, chatroomId, TimeCapsuleCreateJobStatus.PENDING, null, null);
+    }
+
+    public TimeCapsuleCreateJobResponse running() {
+        return new TimeCapsuleCreateJobResponse(jobId, chatroomId, TimeCapsuleCreateJobStatus.RUNNING, null, null);
+    }
+
+    public TimeCapsuleCreateJobResponse completed(Long timeCapsuleId) {
+        return new TimeCapsuleCreateJobResponse(
+                jobId, chatroomId, TimeCapsuleCreateJobStatus.COMPLETED, timeCapsuleId, null);
+    }
+
+    public TimeCapsuleCreateJobResponse failed(String errorMessage) {
+        return new TimeCapsuleCreateJobResponse(
+                jobId, chatroomId, TimeCapsuleCreateJobStatus.FAILED, null, errorMessage);
+    }
+}
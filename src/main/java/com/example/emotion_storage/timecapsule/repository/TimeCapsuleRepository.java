@@ -2,6 +2,7 @@ package com.example.emotion_storage.timecapsule.repository;
 
 import com.example.emotion_storage.timecapsule.domain.TimeCapsule;
 import java.sql.Date;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
@@ -89,4 +90,30 @@ public interface TimeCapsuleRepository extends JpaRepository<TimeCapsule, Long>
             @Param("startOfDay") LocalDateTime startOfDay,
             @Param("startOfNextDay") LocalDateTime startOfNextDay
     );
+
+    /**
+     * 일일 리포트 생성 대상 사용자 ID 조회 (afterUserId 이후부터 ID 순)
+     * 해당 날짜에 저장된 타임캡슐이 있고 아직 그 날짜의 리포트가 없는 활성 사용자만 반환한다.
+     */
+    @Query("""
+    SELECT DISTINCT u.id FROM TimeCapsule tc JOIN tc.user u
+    WHERE tc.historyDate >= :startOfDay
+    AND tc.historyDate < :startOfNextDay
+    AND tc.deletedAt IS NULL
+    AND tc.isTempSave = false
+    AND u.deletedAt IS NULL
+    AND u.id > :afterUserId
+    AND NOT EXISTS (
+        SELECT 1 FROM TimeCapsule reported JOIN reported.report r
+        WHERE reported.user.id = u.id AND r.historyDate = :historyDate
+    )
+    ORDER BY u.id ASC
+    """)
+    List<Long> findDailyReportCandidateUserIds(
+            @Param("startOfDay") LocalDateTime startOfDay,
+            @Param("startOfNextDay") LocalDateTime startOfNextDay,
+            @Param("historyDate") LocalDate historyDate,
+            @Param("afterUserId") Long afterUserId,
+            Pageable pageable
+    );
 }
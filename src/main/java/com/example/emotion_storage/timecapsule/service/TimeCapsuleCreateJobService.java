@@ -0,0 +1,190 @@
+package com.example.emotion_storage.timecapsule.service;
+
+import com.example.emotion_storage.chat.repository.ChatRoomRepository;
+import com.example.emotion_storage.chat.service.ChatRoomBroadcaster;
+import com.example.emotion_storage.global.config.scheduler.BlockingTaskExecutors;
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleCreateRequest;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 타임캡슐 생성 작업 큐
+ * AI 요약은 수십 초가 걸릴 수 있어 요청 스레드에서 기다리지 않고 작업 ID를 바로 돌려준다.
+ * 작업은 크기가 정해진 스레드 풀에서 실행되며, 대기열이 가득 차면 요청을 거절한다.
+ * 끝난 작업은 /sub/chatroom/{id}로 알리고, 클라이언트는 작업 ID로 상태를 조회할 수도 있다.
+ * 여러 노드로 띄울 때는 timecapsule.create-job.redis.enabled로 작업 상태를 Redis에 두어 노드 간에 공유한다.
+ * 종료 대기 시간 안에 끝나지 못한 작업은 실패로 표시하고 채팅방 등록을 풀어, 보관 기간 동안 다시 요청하지 못하는 일이 없게 한다.
+ */
+@Slf4j
+@Service
+public class TimeCapsuleCreateJobService {
+
+    private static final String DEFAULT_FAILURE_MESSAGE = "타임캡슐 생성에 실패했습니다.";
+    private static final String SHUTDOWN_FAILURE_MESSAGE = "서버가 재시작되어 타임캡슐 생성이 중단되었습니다. 다시 시도해주세요.";
+
+    private final TimeCapsuleService timeCapsuleService;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomBroadcaster chatRoomBroadcaster;
+    private final TimeCapsuleCreateJobStore jobStore;
+    private final ThreadPoolTaskExecutor executor;
+    // 이 노드에서 아직 끝나지 않은 작업 ID -> 채팅방 ID
+    private final Map<String, Long> unfinishedJobs = new ConcurrentHashMap<>();
+
+    public TimeCapsuleCreateJobService(
+            TimeCapsuleService timeCapsuleService,
+            ChatRoomRepository chatRoomRepository,
+            ChatRoomBroadcaster chatRoomBroadcaster,
+            TimeCapsuleCreateJobStore jobStore,
+            @Value("${timecapsule.create-job.pool-size:4}") int poolSize,
+            @Value("${timecapsule.create-job.queue-capacity:50}") int queueCapacity,
+            @Value("${timecapsule.create-job.shutdown-await-seconds:130}") int shutdownAwaitSeconds,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreadsEnabled
+    ) {
+        this.timeCapsuleService = timeCapsuleService;
+        this.chatRoomRepository = chatRoomRepository;
+        this.chatRoomBroadcaster = chatRoomBroadcaster;
+        this.jobStore = jobStore;
+
+        // 종료 대기는 AI 서버 read timeout(120초)보다 길게 둔다.
+        this.executor = BlockingTaskExecutors.create(
+                "timecapsule-create-", poolSize, queueCapacity, shutdownAwaitSeconds, virtualThreadsEnabled
+        );
+    }
+
+    /**
+     * 타임캡슐 생성 작업을 등록한다. 같은 채팅방의 작업이 진행 중이면 새로 만들지 않고 그 작업을 돌려준다.
+     */
+    public TimeCapsuleCreateJobResponse enqueue(TimeCapsuleCreateRequest request, Long userId) {
+        Long roomId = request.chatroomId();
+        chatRoomRepository.findByIdAndUser_Id(roomId, userId)
+                .orElseThrow(() -> new BaseException(ErrorCode.CHAT_ROOM_ACCESS_DENIED));
+
+        String jobId = UUID.randomUUID().toString();
+        TimeCapsuleCreateJobStore.Job job =
+                new TimeCapsuleCreateJobStore.Job(userId, TimeCapsuleCreateJobResponse.pending(jobId, roomId));
+        jobStore.save(jobId, job);
+
+        String activeJobId = jobStore.claimRoom(roomId, jobId);
+        while (activeJobId != null) {
+            TimeCapsuleCreateJobStore.Job activeJob = jobStore.get(activeJobId);
+            if (activeJob != null) {
+                jobStore.remove(jobId);
+                log.info("[채팅방:{}] 진행 중인 타임캡슐 생성 작업 {}을 반환합니다.", roomId, activeJobId);
+                return activeJob.state();
+            }
+            // 보관 기간이 지나 사라진 작업이면 새 작업으로 교체한다. 그 사이 다른 요청이 먼저 교체했다면 그 작업을 다시 확인한다.
+            if (jobStore.replaceRoom(roomId, activeJobId, jobId)) {
+                break;
+            }
+            activeJobId = jobStore.claimRoom(roomId, jobId);
+        }
+
+        unfinishedJobs.put(jobId, roomId);
+        try {
+            executor.execute(() -> run(jobId, request, userId));
+        } catch (TaskRejectedException e) {
+            unfinishedJobs.remove(jobId);
+            jobStore.remove(jobId);
+            jobStore.releaseRoom(roomId, jobId);
+            log.warn("[채팅방:{}] 타임캡슐 생성 대기열이 가득 차 요청을 거절합니다.", roomId);
+            throw new BaseException(ErrorCode.TIME_CAPSULE_CREATE_JOB_QUEUE_FULL);
+        }
+
+        log.info("[채팅방:{}] 타임캡슐 생성 작업 {}을 등록했습니다.", roomId, jobId);
+        return job.state();
+    }
+
+    public TimeCapsuleCreateJobResponse getJob(String jobId, Long userId) {
+        TimeCapsuleCreateJobStore.Job job = jobStore.get(jobId);
+        if (job == null || !job.userId().equals(userId)) {
+            throw new BaseException(ErrorCode.TIME_CAPSULE_CREATE_JOB_NOT_FOUND);
+        }
+        return job.state();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+
+        unfinishedJobs.forEach((jobId, roomId) -> {
+            log.warn("[채팅방:{}] 종료 전에 끝나지 않은 타임캡슐 생성 작업 {}을 실패로 표시합니다.", roomId, jobId);
+            TimeCapsuleCreateJobResponse result = update(jobId, state -> state.status().isFinished()
+                    ? state
+                    : state.failed(SHUTDOWN_FAILURE_MESSAGE));
+            releaseRoom(roomId, jobId);
+            if (result != null) {
+                notifyChatRoom(roomId, result);
+            }
+        });
+    }
+
+    private void run(String jobId, TimeCapsuleCreateRequest request, Long userId) {
+        // 종료 중 실패로 표시된 뒤 대기열에서 꺼낸 작업은 실행하지 않는다.
+        TimeCapsuleCreateJobResponse started = update(
+                jobId, state -> state.status().isFinished() ? state : state.running()
+        );
+        if (started != null && started.status().isFinished()) {
+            unfinishedJobs.remove(jobId);
+            return;
+        }
+
+        TimeCapsuleCreateJobResponse result;
+        try {
+            TimeCapsuleCreateResponse created = timeCapsuleService.createTimeCapsule(request, userId);
+            result = update(jobId, state -> state.completed(created.timeCapsuleId()));
+            log.info("[채팅방:{}] 타임캡슐 생성 작업 {} 완료: timeCapsuleId={}",
+                    request.chatroomId(), jobId, created.timeCapsuleId());
+        } catch (Exception e) {
+            log.error("[채팅방:{}] 타임캡슐 생성 작업 {} 실패", request.chatroomId(), jobId, e);
+            String message = e instanceof BaseException be ? be.getErrorCode().getMessage() : DEFAULT_FAILURE_MESSAGE;
+            result = update(jobId, state -> state.failed(message));
+        } finally {
+            releaseRoom(request.chatroomId(), jobId);
+            unfinishedJobs.remove(jobId);
+        }
+
+        if (result != null) {
+            notifyChatRoom(request.chatroomId(), result);
+        }
+    }
+
+    private TimeCapsuleCreateJobResponse update(String jobId, UnaryOperator<TimeCapsuleCreateJobResponse> transition) {
+        try {
+            return jobStore.update(jobId, transition);
+        } catch (Exception e) {
+            // 상태 저장이 실패해도 작업 자체는 계속 진행한다.
+            log.warn("타임캡슐 생성 작업 {} 상태 저장 실패", jobId, e);
+            return null;
+        }
+    }
+
+    private void releaseRoom(Long roomId, String jobId) {
+        try {
+            jobStore.releaseRoom(roomId, jobId);
+        } catch (Exception e) {
+            // 해제하지 못한 등록은 보관 기간이 지나면 만료된다.
+            log.warn("[채팅방:{}] 타임캡슐 생성 작업 {} 등록 해제 실패", roomId, jobId, e);
+        }
+    }
+
+    private void notifyChatRoom(Long roomId, TimeCapsuleCreateJobResponse result) {
+        try {
+            chatRoomBroadcaster.send(roomId, result);
+        } catch (Exception e) {
+            // 알림이 실패해도 작업 결과는 조회 API로 확인할 수 있다.
+            log.warn("[채팅방:{}] 타임캡슐 생성 결과 알림 전송 실패", roomId, e);
+        }
+    }
+}
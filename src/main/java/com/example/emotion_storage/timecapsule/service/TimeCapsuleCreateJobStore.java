@@ -0,0 +1,157 @@
+package com.example.emotion_storage.timecapsule.service;
+
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 타임캡슐 생성 작업 상태와 채팅방별 진행 중인 작업 ID 저장소
+ * 기본은 노드 로컬 메모리에 두고, 여러 노드로 띄울 때는 Redis에 두어 어느 노드로 들어온 조회와 중복 요청 확인도 같은 상태를 보게 한다.
+ */
+@Component
+public class TimeCapsuleCreateJobStore {
+
+    private static final String JOB_KEY_PREFIX = "timecapsule:create-job:";
+    private static final String ACTIVE_ROOM_KEY_PREFIX = "timecapsule:create-job:room:";
+
+    // 값이 기대한 작업 ID일 때만 바꾸거나 지운다.
+    private static final RedisScript<Long> REPLACE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then "
+                    + "redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end return 0", Long.class);
+    private static final RedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) end return 0", Long.class);
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration retention;
+    private final Cache<String, Job> localJobs;
+    private final Map<Long, String> localActiveJobIdByRoom = new ConcurrentHashMap<>();
+
+    public record Job(Long userId, TimeCapsuleCreateJobResponse state) {}
+
+    public TimeCapsuleCreateJobStore(
+            ObjectMapper objectMapper,
+            ObjectProvider<RedisTemplate<String, String>> redisTemplateProvider,
+            @Value("${timecapsule.create-job.redis.enabled:false}") boolean redisEnabled,
+            @Value("${timecapsule.create-job.retention-minutes:60}") long retentionMinutes
+    ) {
+        this.objectMapper = objectMapper;
+        this.redisTemplate = redisEnabled ? redisTemplateProvider.getObject() : null;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.localJobs = Caffeine.newBuilder()
+                .expireAfterWrite(retention)
+                .build();
+    }
+
+    public void save(String jobId, Job job) {
+        if (redisTemplate == null) {
+            localJobs.put(jobId, job);
+            return;
+        }
+        redisTemplate.opsForValue().set(JOB_KEY_PREFIX + jobId, toJson(job), retention);
+    }
+
+    public Job get(String jobId) {
+        if (redisTemplate == null) {
+            return localJobs.getIfPresent(jobId);
+        }
+        String json = redisTemplate.opsForValue().get(JOB_KEY_PREFIX + jobId);
+        return json != null ? fromJson(json) : null;
+    }
+
+    /**
+     * 작업 상태를 바꾼다. 한 작업의 상태는 그 작업을 실행하는 스레드만 바꾸므로 Redis에서는 읽고 다시 쓴다.
+     */
+    public TimeCapsuleCreateJobResponse update(String jobId, UnaryOperator<TimeCapsuleCreateJobResponse> transition) {
+        if (redisTemplate == null) {
+            Job updated = localJobs.asMap().computeIfPresent(
+                    jobId, (id, job) -> new Job(job.userId(), transition.apply(job.state()))
+            );
+            return updated != null ? updated.state() : null;
+        }
+        Job job = get(jobId);
+        if (job == null) {
+            return null;
+        }
+        Job updated = new Job(job.userId(), transition.apply(job.state()));
+        save(jobId, updated);
+        return updated.state();
+    }
+
+    public void remove(String jobId) {
+        if (redisTemplate == null) {
+            localJobs.invalidate(jobId);
+            return;
+        }
+        redisTemplate.delete(JOB_KEY_PREFIX + jobId);
+    }
+
+    /**
+     * 채팅방의 진행 중인 작업으로 등록한다. 이미 다른 작업이 있으면 그 작업 ID를, 등록했으면 null을 반환한다.
+     */
+    public String claimRoom(Long roomId, String jobId) {
+        if (redisTemplate == null) {
+            return localActiveJobIdByRoom.putIfAbsent(roomId, jobId);
+        }
+        String key = ACTIVE_ROOM_KEY_PREFIX + roomId;
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, jobId, retention))) {
+            return null;
+        }
+        String activeJobId = redisTemplate.opsForValue().get(key);
+        // 그 사이 작업이 끝나 키가 지워졌다면 한 번 더 등록을 시도한다.
+        if (activeJobId == null && Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, jobId, retention))) {
+            return null;
+        }
+        return activeJobId;
+    }
+
+    /**
+     * 채팅방의 진행 중인 작업이 아직 oldJobId일 때만 jobId로 바꾼다.
+     */
+    public boolean replaceRoom(Long roomId, String oldJobId, String jobId) {
+        if (redisTemplate == null) {
+            return localActiveJobIdByRoom.replace(roomId, oldJobId, jobId);
+        }
+        Long replaced = redisTemplate.execute(REPLACE_IF_EQUALS, List.of(ACTIVE_ROOM_KEY_PREFIX + roomId),
+                oldJobId, jobId, String.valueOf(retention.toMillis()));
+        return replaced != null && replaced == 1L;
+    }
+
+    public void releaseRoom(Long roomId, String jobId) {
+        if (redisTemplate == null) {
+            localActiveJobIdByRoom.remove(roomId, jobId);
+            return;
+        }
+        redisTemplate.execute(DELETE_IF_EQUALS, List.of(ACTIVE_ROOM_KEY_PREFIX + roomId), jobId);
+    }
+
+    private String toJson(Job job) {
+        try {
+            return objectMapper.writeValueAsString(job);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("타임캡슐 생성 작업 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    private Job fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, Job.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("타임캡슐 생성 작업 역직렬화에 실패했습니다.", e);
+        }
+    }
+}
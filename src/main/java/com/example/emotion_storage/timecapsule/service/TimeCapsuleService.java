@@ -8,6 +8,7 @@ import com.example.emotion_storage.chat.repository.ChatRoomRepository;
 import com.example.emotion_storage.chat.service.ChatService;
 import com.example.emotion_storage.global.exception.BaseException;
 import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
 import com.example.emotion_storage.timecapsule.domain.AnalyzedEmotion;
 import com.example.emotion_storage.timecapsule.domain.AnalyzedFeedback;
 import com.example.emotion_storage.timecapsule.domain.TimeCapsule;
@@ -46,6 +47,7 @@ import java.util.regex.Pattern;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -85,6 +87,7 @@ public class TimeCapsuleService {
     private final UserRepository userRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${ai.server.base-url:http://localhost:8000}")
     private String aiServerBaseUrl;
@@ -241,6 +244,7 @@ public class TimeCapsuleService {
         log.info("임시 저장되어 있는 타임캡슐을 최종 저장합니다.");
         timeCapsule.updateTempSave(false);
         timeCapsule.setOpenedAt(request.openAt());
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
 
         return new TimeCapsuleOpenDateUpdateResponse(timeCapsule.getId());
     }
@@ -401,6 +405,7 @@ public class TimeCapsuleService {
         }
 
         timeCapsule.setIsOpened(true);
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
     }
 
     private long calculateDaysToOpen(LocalDateTime openDate) {
@@ -437,6 +442,7 @@ public class TimeCapsuleService {
 
         log.info("타임캡슐 {}를 삭제합니다.", timeCapsuleId);
         timeCapsule.setDeletedAt(LocalDateTime.now());
+        eventPublisher.publishEvent(new HomeCountersChangedEvent(userId));
     }
 
     /**
@@ -25,6 +25,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -55,6 +56,9 @@ import org.hibernate.annotations.Where;
 @Where(clause = "deleted_at IS NULL")
 public class User extends BaseTimeEntity {
 
+    public static final long DAILY_TICKET_COUNT = 10L;
+    public static final ZoneId TICKET_ZONE = ZoneId.of("Asia/Seoul");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "user_id")
@@ -88,6 +92,9 @@ public class User extends BaseTimeEntity {
     @Column(nullable = false)
     private Long ticketCount;
 
+    // 티켓을 마지막으로 하루 지급량으로 충전한 날짜(KST)
+    private LocalDate ticketResetDate;
+
     @ElementCollection
     @CollectionTable(name = "user_expectations", joinColumns = @JoinColumn(name = "user_id"))
     @Column(name = "expectation", nullable = false, length = 100)
@@ -180,17 +187,39 @@ public class User extends BaseTimeEntity {
         this.keyCount -= requiredKeys;
     }
 
-    public void initTicketCount() {
-        this.ticketCount = 10L;
+    /**
+     * 오늘(KST) 남은 티켓 수. 오늘 아직 충전되지 않았다면 하루 지급량을 반환한다.
+     */
+    public long getRemainingTickets() {
+        return getRemainingTickets(LocalDate.now(TICKET_ZONE));
+    }
+
+    public long getRemainingTickets(LocalDate today) {
+        return isTicketRefillNeeded(today) ? DAILY_TICKET_COUNT : this.ticketCount;
     }
 
     public void useTicket() {
+        useTicket(LocalDate.now(TICKET_ZONE));
+    }
+
+    /**
+     * 그날 처음 사용하는 경우 하루 지급량으로 충전한 뒤 차감한다.
+     */
+    public void useTicket(LocalDate today) {
+        if (isTicketRefillNeeded(today)) {
+            this.ticketCount = DAILY_TICKET_COUNT;
+            this.ticketResetDate = today;
+        }
         if (this.ticketCount <= 0) {
             throw new BaseException(ErrorCode.TICKET_NOT_ENOUGH);
         }
         this.ticketCount -= 1;
     }
 
+    private boolean isTicketRefillNeeded(LocalDate today) {
+        return this.ticketResetDate == null || this.ticketResetDate.isBefore(today);
+    }
+
     public void updateNickname(String nickname) {
         this.nickname = nickname;
     }
@@ -1,11 +1,8 @@
 package com.example.emotion_storage.user.repository;
 
 import com.example.emotion_storage.user.domain.User;
-import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,7 +11,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Optional<User> findBySocialId(String socialId);
     Boolean existsByEmail(String email);
-    
-    @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
-    List<User> findAllActiveUsers();
 }
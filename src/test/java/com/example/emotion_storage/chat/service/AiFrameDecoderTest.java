@@ -0,0 +1,55 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+class AiFrameDecoderTest {
+
+    private final AiFrameDecoder decoder = new AiFrameDecoder(new JsonFactory());
+
+    @Test
+    void chat_delta_프레임에서_세션과_텍스트만_읽는다() throws Exception {
+        // given
+        String payload = "{\"type\":\"chat.delta\",\"session_id\":\"session-1-2\",\"meta\":{\"seq\":[1,2]},\"text\":\"안녕\\n하세요\"}";
+
+        // when
+        AiFrameDecoder.DeltaFrame frame = decoder.tryDecodeDelta(payload);
+
+        // then
+        assertThat(frame).isNotNull();
+        assertThat(frame.sessionId()).isEqualTo("session-1-2");
+        assertThat(frame.text()).isEqualTo("안녕\n하세요");
+    }
+
+    @Test
+    void type이_뒤에_와도_chat_delta로_읽는다() throws Exception {
+        // when
+        AiFrameDecoder.DeltaFrame frame = decoder.tryDecodeDelta("{\"text\":\"오늘\",\"sessionId\":\"session-1-2\",\"type\":\"chat.delta\"}");
+
+        // then
+        assertThat(frame).isNotNull();
+        assertThat(frame.sessionId()).isEqualTo("session-1-2");
+        assertThat(frame.text()).isEqualTo("오늘");
+    }
+
+    @Test
+    void chat_delta가_아니면_null을_반환한다() throws Exception {
+        // when & then
+        assertThat(decoder.tryDecodeDelta("{\"type\":\"gauge.result\",\"gauge\":{\"gauge_score\":10}}")).isNull();
+        assertThat(decoder.tryDecodeDelta("{\"sessionId\":\"session-1-2\",\"text\":\"타입 없음\"}")).isNull();
+    }
+
+    @Test
+    void chat_delta가_아닌_프레임도_session_id_표기를_세션으로_읽는다() throws Exception {
+        // when
+        AiResponseDto response = new ObjectMapper()
+                .readValue("{\"type\":\"chat.end\",\"session_id\":\"session-1-2\"}", AiResponseDto.class);
+
+        // then
+        assertThat(response.getSessionId()).isEqualTo("session-1-2");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import com.example.emotion_storage.chat.dto.GaugeDto;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class AiRequestStateTest {
+
+    private AiRequestState newState() {
+        return new AiRequestState("session-1-1", new CompletableFuture<AiResponseDto>());
+    }
+
+    @Test
+    void chat_end_전에는_완료_상태로_전이되지_않는다() {
+        // given
+        AiRequestState state = newState();
+        state.receiveGauge(GaugeDto.builder().gaugeScore(50).build());
+
+        // when
+        boolean completed = state.tryMarkCompleted();
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(state.isCompleted()).isFalse();
+    }
+
+    @Test
+    void chat_end_이후_gauge가_없으면_대기한다() {
+        // given
+        AiRequestState state = newState();
+        state.markChatEndReceived();
+
+        // when
+        boolean completed = state.tryMarkCompleted();
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(state.isChatEndReceived()).isTrue();
+    }
+
+    @Test
+    void chat_end와_gauge를_모두_받으면_한_번만_완료된다() {
+        // given
+        AiRequestState state = newState();
+        state.appendDelta("안녕");
+        state.appendDelta("하세요.");
+        state.markChatEndReceived();
+        state.receiveGauge(GaugeDto.builder().gaugeScore(70).build());
+
+        // when
+        boolean first = state.tryMarkCompleted();
+        boolean second = state.tryMarkCompleted();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(state.getFullResponse()).isEqualTo("안녕하세요.");
+        assertThat(state.getGauge().getGaugeScore()).isEqualTo(70);
+    }
+
+    @Test
+    void gauge_대기_시간이_만료되면_gauge_없이_완료된다() {
+        // given
+        AiRequestState state = newState();
+        state.markChatEndReceived();
+        state.markGaugeWaitExpired();
+
+        // when
+        boolean completed = state.tryMarkCompleted();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(state.getGauge()).isNull();
+    }
+
+    @Test
+    void 완료된_요청은_중단할_수_없다() {
+        // given
+        AiRequestState state = newState();
+        state.markChatEndReceived();
+        state.markGaugeWaitExpired();
+        state.tryMarkCompleted();
+
+        // when
+        boolean aborted = state.tryMarkAborted();
+
+        // then
+        assertThat(aborted).isFalse();
+    }
+}
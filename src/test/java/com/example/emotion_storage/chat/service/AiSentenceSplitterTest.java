@@ -0,0 +1,44 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class AiSentenceSplitterTest {
+
+    private static final String MESSAGE = " 오늘 하루도 수고했어요!  어떤 일이 있었나요？그랬군요... 마음이 쓰였겠어요 ";
+
+    @Test
+    void 문장_부호_뒤에서_나누고_공백을_제거한다() {
+        // when
+        List<String> sentences = AiSentenceSplitter.split(MESSAGE);
+
+        // then
+        List<String> expected = Arrays.stream(MESSAGE.split("(?<=[.!?！？])"))
+                .map(String::trim)
+                .filter(chunk -> !chunk.isEmpty())
+                .toList();
+        assertThat(sentences).isEqualTo(expected);
+    }
+
+    @Test
+    void 저장된_오프셋으로_같은_문장을_꺼낸다() {
+        // given
+        String offsets = AiSentenceSplitter.encodeOffsets(MESSAGE);
+
+        // when
+        List<String> sentences = AiSentenceSplitter.sentencesOf(MESSAGE, offsets);
+
+        // then
+        assertThat(sentences).isEqualTo(AiSentenceSplitter.split(MESSAGE));
+    }
+
+    @Test
+    void 오프셋이_없거나_메시지와_맞지_않으면_다시_나눈다() {
+        // when & then
+        assertThat(AiSentenceSplitter.sentencesOf(MESSAGE, null)).isEqualTo(AiSentenceSplitter.split(MESSAGE));
+        assertThat(AiSentenceSplitter.sentencesOf("짧은 메시지.", "0-999")).containsExactly("짧은 메시지.");
+    }
+}
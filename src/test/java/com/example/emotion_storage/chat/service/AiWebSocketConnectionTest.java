@@ -0,0 +1,81 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+
+class AiWebSocketConnectionTest {
+
+    @Test
+    void 연결당_최대_요청_수까지만_점유할_수_있다() {
+        // given
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+
+        // when
+        boolean first = connection.tryAcquire(2);
+        boolean second = connection.tryAcquire(2);
+        boolean third = connection.tryAcquire(2);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(connection.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void 요청을_반납하면_다시_점유할_수_있다() {
+        // given
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+        connection.tryAcquire(1);
+
+        // when
+        connection.release();
+
+        // then
+        assertThat(connection.getInFlight()).isZero();
+        assertThat(connection.tryAcquire(1)).isTrue();
+    }
+
+    @Test
+    void 점유하지_않은_상태에서_반납해도_음수가_되지_않는다() {
+        // given
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+
+        // when
+        connection.release();
+
+        // then
+        assertThat(connection.getInFlight()).isZero();
+    }
+
+    @Test
+    void 연결에_실패하면_열리지_않은_상태로_남는다() {
+        // given
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+
+        // when
+        boolean opened = connection.ensureOpen(slot -> null);
+
+        // then
+        assertThat(opened).isFalse();
+        assertThat(connection.isOpen()).isFalse();
+        assertThatThrownBy(() -> connection.send(null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 전송에_실패한_요청은_처리_중_목록에_남지_않는다() {
+        // given
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+        AiRequestState state = new AiRequestState("session-1-1", new CompletableFuture<AiResponseDto>());
+
+        // when & then
+        assertThatThrownBy(() -> connection.send(state, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(connection.findOldestInFlight(request -> true)).isNull();
+    }
+}
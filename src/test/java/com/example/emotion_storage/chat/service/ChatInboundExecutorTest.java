@@ -0,0 +1,67 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ChatInboundExecutorTest {
+
+    @Test
+    void 같은_채팅방의_메시지는_받은_순서대로_처리한다() throws InterruptedException {
+        // given
+        ChatInboundExecutor executor = new ChatInboundExecutor(4, 100);
+        List<Integer> processed = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(20);
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            int order = i;
+            executor.execute(1L, () -> {
+                processed.add(order);
+                done.countDown();
+            });
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(processed).isSorted().hasSize(20);
+        executor.shutdown();
+    }
+
+    @Test
+    void 대기열이_가득_차면_요청을_거절한다() throws InterruptedException {
+        // given
+        ChatInboundExecutor executor = new ChatInboundExecutor(1, 1);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(1L, () -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(1L, () -> {});
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(1L, () -> {}))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.CHAT_WRITE_QUEUE_FULL.getMessage());
+
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -163,4 +163,46 @@ public class ChatMessageStoreTest {
                 .isInstanceOf(BaseException.class)
                 .hasMessageContaining(ErrorCode.CHAT_ROOM_NOT_FOUND.getMessage());
     }
+
+    @Test
+    void 티켓이_없으면_AI_전송_전_검증에서_예외가_발생하고_첫_채팅_시각을_기록하지_않는다() {
+        // given
+        User user = newUser();
+        for (int i = 0; i < User.DAILY_TICKET_COUNT; i++) {
+            user.useTicket();
+        }
+        ChatRoom chatRoom = newChatRoom(user);
+        String timestamp = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS").format(LocalDateTime.now());
+
+        UserMessageDto userMessageDto = new UserMessageDto(
+                "message-1",
+                chatRoom.getId(),
+                "안녕하세요",
+                "USER",
+                timestamp
+        );
+
+        // when & then
+        assertThatThrownBy(() -> chatMessageStore.prepareUserMessage(userMessageDto, user.getId()))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.TICKET_NOT_ENOUGH.getMessage());
+        assertThat(chatRoom.getFirstChatTime()).isNull();
+        assertThat(chatRepository.findAll()).isEmpty();
+    }
+
+    @Test
+    void AI_메시지를_저장하면_문장_경계를_함께_저장한다() {
+        // given
+        User user = newUser();
+        ChatRoom chatRoom = newChatRoom(user);
+        String message = "오늘 하루도 수고했어요! 어떤 일이 있었나요?";
+
+        // when
+        chatMessageStore.saveAiMessage(chatRoom.getId(), message, "2025-10-10T00:40:02.230468", null);
+
+        // then
+        Chat chat = chatRepository.findAll().get(0);
+        assertThat(chat.getSender()).isEqualTo(SenderType.MOOI);
+        assertThat(chat.getSentenceOffsets()).isEqualTo("0-13,14-25");
+    }
 }
@@ -0,0 +1,114 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+class ChatRoomSubscriptionRegistryTest {
+
+    private ChatRoomSubscriptionRegistry registry;
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        registry = newRegistry(true);
+    }
+
+    private ChatRoomSubscriptionRegistry newRegistry(boolean enabled) {
+        ChatRoomSubscriptionRegistry registry = new ChatRoomSubscriptionRegistry(enabled);
+        registry.addListener(new ChatRoomSubscriptionRegistry.Listener() {
+            @Override
+            public void onFirstSubscriber(Long roomId) {
+                events.add("first:" + roomId);
+            }
+
+            @Override
+            public void onLastSubscriberRemoved(Long roomId) {
+                events.add("last:" + roomId);
+            }
+        });
+        return registry;
+    }
+
+    @Test
+    void 같은_채팅방의_첫_구독과_마지막_구독_해제에만_알린다() {
+        // given
+        registry.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/sub/chatroom/1")));
+        registry.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s2", "sub-0", "/sub/chatroom/1")));
+
+        // when
+        registry.handleUnsubscribe(new SessionUnsubscribeEvent(this, unsubscribe("s1", "sub-0")));
+        boolean hostedAfterFirstLeave = registry.isHosted(1L);
+        registry.handleUnsubscribe(new SessionUnsubscribeEvent(this, unsubscribe("s2", "sub-0")));
+
+        // then
+        assertThat(hostedAfterFirstLeave).isTrue();
+        assertThat(registry.isHosted(1L)).isFalse();
+        assertThat(events).containsExactly("first:1", "last:1");
+    }
+
+    @Test
+    void 연결이_끊기면_해당_세션의_구독이_모두_해제된다() {
+        // given
+        registry.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/sub/chatroom/1")));
+        registry.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-1", "/sub/chatroom/2")));
+
+        // when
+        Message<byte[]> disconnect = MessageBuilder.createMessage(new byte[0],
+                StompHeaderAccessor.create(StompCommand.DISCONNECT).getMessageHeaders());
+        registry.handleDisconnect(new SessionDisconnectEvent(this, disconnect, "s1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(registry.isHosted(1L)).isFalse();
+        assertThat(registry.isHosted(2L)).isFalse();
+        assertThat(events).containsExactlyInAnyOrder("first:1", "first:2", "last:1", "last:2");
+    }
+
+    @Test
+    void 채팅방이_아닌_경로의_구독은_무시한다() {
+        // when
+        registry.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/sub/notice")));
+
+        // then
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void Redis_fan_out이_꺼져_있으면_구독을_세지_않는다() {
+        // given
+        ChatRoomSubscriptionRegistry disabled = newRegistry(false);
+
+        // when
+        disabled.handleSubscribe(new SessionSubscribeEvent(this, subscribe("s1", "sub-0", "/sub/chatroom/1")));
+
+        // then
+        assertThat(disabled.isHosted(1L)).isFalse();
+        assertThat(events).isEmpty();
+    }
+
+    private Message<byte[]> subscribe(String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private Message<byte[]> unsubscribe(String sessionId, String subscriptionId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.UNSUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatRoomWriteTrackerTest {
+
+    @Mock private ClosedRoomHistoryCache closedRoomHistoryCache;
+    @InjectMocks private ChatRoomWriteTracker tracker;
+
+    @Test
+    void 남은_작업이_있으면_기록이_확정되지_않은_것으로_본다() {
+        // given
+        tracker.begin(1L);
+        tracker.begin(1L);
+
+        // when
+        tracker.end(1L);
+
+        // then
+        assertThat(tracker.isSettled(1L)).isFalse();
+        assertThat(tracker.isSettled(2L)).isTrue();
+        verify(closedRoomHistoryCache, never()).evict(1L);
+    }
+
+    @Test
+    void 마지막_작업이_끝나면_확정되고_캐시를_무효화한다() {
+        // given
+        tracker.begin(1L);
+        tracker.begin(1L);
+        tracker.end(1L);
+
+        // when
+        tracker.end(1L);
+
+        // then
+        assertThat(tracker.isSettled(1L)).isTrue();
+        verify(closedRoomHistoryCache).evict(1L);
+    }
+}
@@ -8,7 +8,11 @@ import com.example.emotion_storage.chat.domain.ChatRoom;
 import com.example.emotion_storage.chat.domain.SenderType;
 import com.example.emotion_storage.chat.dto.response.ChatRoomCloseResponse;
 import com.example.emotion_storage.chat.dto.response.ChatRoomCreateResponse;
+import com.example.emotion_storage.chat.dto.response.ChatDto;
 import com.example.emotion_storage.chat.dto.response.ChatRoomTempSaveResponse;
+import com.example.emotion_storage.chat.dto.response.ChatSliceResponse;
+import com.example.emotion_storage.chat.dto.response.RoomSliceResponse;
+import com.example.emotion_storage.chat.dto.response.RoomWithChatsDto;
 import com.example.emotion_storage.chat.dto.response.SingleRoomSliceResponse;
 import com.example.emotion_storage.chat.repository.ChatRepository;
 import com.example.emotion_storage.chat.repository.ChatRoomRepository;
@@ -364,6 +368,37 @@ public class ChatServiceTest {
         assertThat(response.nextCursor()).isNull();
     }
 
+    @Test
+    void 여러_채팅방을_요청하면_최신_채팅방부터_각각의_채팅과_함께_반환한다() {
+        // given
+        User user = newUser();
+
+        ChatRoom oldest = createChatRoomWithFirstChatTime(user, LocalDateTime.now());
+        newChat(oldest, SenderType.USER, "첫 번째 방", LocalDateTime.now());
+        oldest.closeChatRoom();
+
+        ChatRoom older = createChatRoomWithFirstChatTime(user, LocalDateTime.now());
+        newChat(older, SenderType.USER, "안녕", LocalDateTime.now());
+        newChat(older, SenderType.MOOI, "오늘 기분은 어때?", LocalDateTime.now());
+        older.closeChatRoom();
+
+        ChatRoom newer = createChatRoomWithFirstChatTime(user, LocalDateTime.now());
+        newChat(newer, SenderType.USER, "오늘은 공부했어", LocalDateTime.now());
+
+        // when
+        RoomSliceResponse response = chatService.getRoomsWithChats(user.getId(), null, 2);
+
+        // then
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.nextCursor()).isEqualTo(older.getId());
+        assertThat(response.rooms()).extracting(RoomWithChatsDto::chatRoomId)
+                .containsExactly(newer.getId(), older.getId());
+        assertThat(response.rooms().get(0).chats()).extracting(ChatDto::message)
+                .containsExactly("오늘은 공부했어");
+        assertThat(response.rooms().get(1).chats()).extracting(ChatDto::message)
+                .containsExactly("안녕", "오늘 기분은 어때?");
+    }
+
     @Test
     void 채팅방_아이디가_연속이_아니더라도_응답이_잘_반환된다() {
         // given
@@ -396,4 +431,43 @@ public class ChatServiceTest {
         assertThat(response.roomWithChats().chats().get(2).message()).isEqualTo("오늘은 공부했어");
         assertThat(response.nextCursor()).isEqualTo(newer.getId());
     }
+
+    @Test
+    void 채팅방_내_채팅을_커서로_나누어_조회한다() {
+        // given
+        User user = newUser();
+        ChatRoom chatRoom = createChatRoomWithFirstChatTime(user, LocalDateTime.now());
+        LocalDateTime base = LocalDateTime.now().withNano(0);
+        newChat(chatRoom, SenderType.USER, "첫 번째", base);
+        newChat(chatRoom, SenderType.MOOI, "두 번째. 세 번째!", base.plusSeconds(1));
+        newChat(chatRoom, SenderType.USER, "네 번째", base.plusSeconds(1));
+        newChat(chatRoom, SenderType.USER, "다섯 번째", base.plusSeconds(2));
+
+        // when
+        ChatSliceResponse first = chatService.getChatsInRoom(user.getId(), chatRoom.getId(), null, null, 2);
+        ChatSliceResponse second = chatService.getChatsInRoom(
+                user.getId(), chatRoom.getId(), first.nextCursorTime(), first.nextCursorId(), 2);
+
+        // then
+        assertThat(first.hasNext()).isTrue();
+        assertThat(first.chats()).extracting(ChatDto::message)
+                .containsExactly("첫 번째", "두 번째.", "세 번째!");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.nextCursorId()).isNull();
+        assertThat(second.chats()).extracting(ChatDto::message)
+                .containsExactly("네 번째", "다섯 번째");
+    }
+
+    @Test
+    void 다른_유저의_채팅방_채팅을_조회하면_예외가_발생한다() {
+        // given
+        User user = newUser();
+        User other = otherUser();
+        ChatRoom chatRoom = newChatRoom(other);
+
+        // when & then
+        assertThatThrownBy(() -> chatService.getChatsInRoom(user.getId(), chatRoom.getId(), null, null, null))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.CHAT_ROOM_ACCESS_DENIED.getMessage());
+    }
 }
@@ -0,0 +1,161 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.emotion_storage.chat.dto.ChatWriteDto;
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChatWriteBehindQueueTest {
+
+    @Mock private ChatMessageStore chatMessageStore;
+    @Mock private ChatRoomWriteTracker chatRoomWriteTracker;
+    @Captor private ArgumentCaptor<List<ChatWriteDto>> batchCaptor;
+
+    private ChatWriteDto aiMessage(String message) {
+        return ChatWriteDto.ofAiMessage(1L, message, "2025-10-10T00:40:02.230468", null);
+    }
+
+    @Test
+    void 종료하면_큐에_쌓인_채팅을_순서대로_모두_저장한다() {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 100, 100, 50L, 0L, 3, 0L);
+        queue.start();
+
+        // when
+        queue.enqueue(aiMessage("첫 번째"));
+        queue.enqueue(aiMessage("두 번째"));
+        queue.shutdown();
+
+        // then
+        verify(chatMessageStore, atLeastOnce()).saveAll(batchCaptor.capture());
+        List<String> savedMessages = batchCaptor.getAllValues().stream()
+                .flatMap(List::stream)
+                .map(ChatWriteDto::message)
+                .toList();
+        assertThat(savedMessages).containsExactly("첫 번째", "두 번째");
+        assertThat(queue.getPendingCount()).isZero();
+        verify(chatRoomWriteTracker, times(2)).begin(1L);
+        verify(chatRoomWriteTracker, times(2)).end(1L);
+    }
+
+    @Test
+    void 큐가_동작하지_않으면_호출_스레드에서_한_번만_저장한다() {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 100, 100, 50L, 0L, 3, 0L);
+
+        // when
+        queue.enqueue(aiMessage("즉시 저장"));
+
+        // then
+        verify(chatMessageStore, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void 저장에_실패하면_재시도한다() {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 100, 100, 50L, 0L, 3, 0L);
+        doThrow(new RuntimeException("DB 오류"))
+                .doNothing()
+                .when(chatMessageStore).saveAll(anyList());
+        queue.start();
+
+        // when
+        queue.enqueue(aiMessage("재시도"));
+        queue.shutdown();
+
+        // then
+        verify(chatMessageStore, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void 다시_시도해도_같은_결과인_오류는_재시도하지_않는다() {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 100, 100, 50L, 0L, 3, 0L);
+        doThrow(new BaseException(ErrorCode.CHAT_ROOM_NOT_FOUND))
+                .when(chatMessageStore).saveAll(anyList());
+        queue.start();
+
+        // when
+        queue.enqueue(aiMessage("존재하지 않는 채팅방"));
+        queue.shutdown();
+
+        // then
+        verify(chatMessageStore, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    void 큐가_가득_차면_호출_스레드에서_저장하지_않고_거절한다() throws InterruptedException {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 1, 100, 50L, 0L, 3, 0L);
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            saving.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(chatMessageStore).saveAll(anyList());
+        queue.start();
+
+        queue.enqueue(aiMessage("저장 중"));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(aiMessage("대기 중"));
+
+        // when & then
+        assertThatThrownBy(() -> queue.enqueue(aiMessage("거절")))
+                .isInstanceOf(BaseException.class)
+                .hasMessageContaining(ErrorCode.CHAT_WRITE_QUEUE_FULL.getMessage());
+
+        release.countDown();
+        queue.shutdown();
+        verify(chatMessageStore, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void 큐가_가득_차도_AI_응답은_호출_스레드에서_저장한다() throws InterruptedException {
+        // given
+        ChatWriteBehindQueue queue = new ChatWriteBehindQueue(chatMessageStore, chatRoomWriteTracker, 1, 100, 50L, 0L, 3, 0L);
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            if (saving.getCount() > 0) {
+                saving.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(chatMessageStore).saveAll(anyList());
+        queue.start();
+
+        queue.enqueue(aiMessage("저장 중"));
+        assertThat(saving.await(5, TimeUnit.SECONDS)).isTrue();
+        queue.enqueue(aiMessage("대기 중"));
+
+        // when
+        queue.enqueueOrWrite(aiMessage("바로 저장"));
+
+        // then
+        verify(chatMessageStore).saveAll(List.of(aiMessage("바로 저장")));
+        release.countDown();
+        queue.shutdown();
+        verify(chatMessageStore, times(3)).saveAll(anyList());
+        verify(chatRoomWriteTracker, times(4)).begin(1L);
+        verify(chatRoomWriteTracker, times(4)).end(1L);
+    }
+}
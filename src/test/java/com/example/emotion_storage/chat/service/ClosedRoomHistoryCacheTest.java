@@ -0,0 +1,78 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.emotion_storage.chat.dto.response.ChatDto;
+import com.example.emotion_storage.chat.dto.response.RoomWithChatsDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class ClosedRoomHistoryCacheTest {
+
+    private ClosedRoomHistoryCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cache = new ClosedRoomHistoryCache(
+                new ObjectMapper().findAndRegisterModules(), mock(ObjectProvider.class), 100, false, 7
+        );
+    }
+
+    private RoomWithChatsDto load(Long roomId) {
+        LocalDateTime time = LocalDateTime.of(2025, 10, 10, 0, 40, 2, 230_468_000);
+        List<ChatDto> chats = List.of(
+                new ChatDto(1L, "1", "USER", "오늘 너무 힘들었어", time),
+                new ChatDto(2L, "2", "MOOI", "무슨 일이 있었어?", time.plusSeconds(1))
+        );
+        return new RoomWithChatsDto(roomId, time, chats.size(), 40, chats);
+    }
+
+    @Test
+    void 저장한_기록을_압축된_상태에서_그대로_복원한다() {
+        // given
+        RoomWithChatsDto room = load(1L);
+        cache.put(1L, room);
+
+        // when
+        RoomWithChatsDto cached = cache.getIfPresent(1L);
+
+        // then
+        assertThat(cached).isEqualTo(room);
+        assertThat(cached.chats()).extracting(ChatDto::message)
+                .containsExactly("오늘 너무 힘들었어", "무슨 일이 있었어?");
+    }
+
+    @Test
+    void 적중과_미적중을_집계한다() {
+        // given
+        cache.getIfPresent(1L);
+        cache.put(1L, load(1L));
+
+        // when
+        cache.getIfPresent(1L);
+
+        // then
+        ClosedRoomHistoryCache.Stats stats = cache.getStats();
+        assertThat(stats.localHits()).isEqualTo(1);
+        assertThat(stats.localMisses()).isEqualTo(1);
+        assertThat(stats.localHitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 채팅방을_무효화하면_캐시에서_사라진다() {
+        // given
+        cache.put(1L, load(1L));
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.getIfPresent(1L)).isNull();
+    }
+}
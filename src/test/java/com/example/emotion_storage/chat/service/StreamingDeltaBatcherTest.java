@@ -0,0 +1,118 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.example.emotion_storage.chat.dto.response.ChatMessageResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingDeltaBatcherTest {
+
+    private static final long LONG_FLUSH_INTERVAL_MILLIS = 60_000L;
+
+    @Mock private ChatRoomBroadcaster chatRoomBroadcaster;
+    @Captor private ArgumentCaptor<ChatMessageResponse> responseCaptor;
+
+    private StreamingDeltaBatcher batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.shutdown();
+        }
+    }
+
+    @Test
+    void 시간_창_안의_delta는_하나의_메시지로_합쳐진다() {
+        // given
+        batcher = new StreamingDeltaBatcher(chatRoomBroadcaster, LONG_FLUSH_INTERVAL_MILLIS, 64);
+
+        // when
+        batcher.append(1L, "session-1-1", "안녕");
+        batcher.append(1L, "session-1-1", "하세요.");
+        batcher.flush(1L);
+
+        // then
+        verify(chatRoomBroadcaster, times(1)).send(eq(1L), responseCaptor.capture());
+        assertThat(responseCaptor.getValue().getContent()).isEqualTo("안녕하세요.");
+        assertThat(responseCaptor.getValue().getMessageType()).isEqualTo("chat.delta");
+    }
+
+    @Test
+    void 버퍼가_최대_길이를_넘으면_즉시_전송한다() {
+        // given
+        batcher = new StreamingDeltaBatcher(chatRoomBroadcaster, LONG_FLUSH_INTERVAL_MILLIS, 4);
+
+        // when
+        batcher.append(1L, "session-1-1", "오늘");
+        batcher.append(1L, "session-1-1", "하루");
+
+        // then
+        verify(chatRoomBroadcaster, times(1)).send(eq(1L), responseCaptor.capture());
+        assertThat(responseCaptor.getValue().getContent()).isEqualTo("오늘하루");
+    }
+
+    @Test
+    void 보낼_delta가_없으면_flush해도_전송하지_않는다() {
+        // given
+        batcher = new StreamingDeltaBatcher(chatRoomBroadcaster, LONG_FLUSH_INTERVAL_MILLIS, 64);
+
+        // when
+        batcher.flush(1L);
+
+        // then
+        verify(chatRoomBroadcaster, never()).send(any(), any());
+    }
+
+    @Test
+    void 시간_창이_0이면_delta를_바로_전송한다() {
+        // given
+        batcher = new StreamingDeltaBatcher(chatRoomBroadcaster, 0L, 64);
+
+        // when
+        batcher.append(1L, "session-1-1", "안녕");
+        batcher.append(1L, "session-1-1", "하세요.");
+
+        // then
+        verify(chatRoomBroadcaster, times(2)).send(eq(1L), any(ChatMessageResponse.class));
+    }
+
+    @Test
+    void flush와_동시에_append해도_delta를_잃지_않는다() throws Exception {
+        // given
+        batcher = new StreamingDeltaBatcher(chatRoomBroadcaster, LONG_FLUSH_INTERVAL_MILLIS, 1_000_000);
+        int deltaCount = 10_000;
+        Thread appender = new Thread(() -> {
+            for (int i = 0; i < deltaCount; i++) {
+                batcher.append(1L, "session-1-1", "a");
+            }
+        });
+
+        // when
+        appender.start();
+        while (appender.isAlive()) {
+            batcher.flush(1L);
+        }
+        appender.join();
+        batcher.flush(1L);
+
+        // then
+        verify(chatRoomBroadcaster, atLeastOnce()).send(eq(1L), responseCaptor.capture());
+        int sentLength = responseCaptor.getAllValues().stream()
+                .mapToInt(response -> response.getContent().length())
+                .sum();
+        assertThat(sentLength).isEqualTo(deltaCount);
+    }
+}
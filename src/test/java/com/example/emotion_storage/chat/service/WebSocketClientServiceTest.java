@@ -0,0 +1,133 @@
+package com.example.emotion_storage.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+import com.example.emotion_storage.chat.dto.AiResponseDto;
+import com.example.emotion_storage.global.config.websocket.WebSocketClientConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketClientServiceTest {
+
+    private static final String CHAT_DELTA = "chat.delta";
+    private static final String CHAT_END = "chat.end";
+
+    @Mock private WebSocketClientConfig webSocketClientConfig;
+    @Mock private ChatService chatService;
+    @Mock private WebSocketSession session;
+
+    private WebSocketClientService newService(boolean strictRouting) {
+        given(webSocketClientConfig.getPoolSize()).willReturn(1);
+        given(webSocketClientConfig.getMaxInFlightPerConnection()).willReturn(16);
+        given(webSocketClientConfig.isStrictRouting()).willReturn(strictRouting);
+        return new WebSocketClientService(webSocketClientConfig, new ObjectMapper(), chatService);
+    }
+
+    private AiWebSocketConnection openConnection() {
+        given(session.isOpen()).willReturn(true);
+        AiWebSocketConnection connection = new AiWebSocketConnection(0);
+        connection.ensureOpen(slot -> session);
+        return connection;
+    }
+
+    private AiRequestState sendRequest(
+            WebSocketClientService service, AiWebSocketConnection connection, String sessionId
+    ) throws Exception {
+        AiRequestState state = service.registerRequest(sessionId, new CompletableFuture<AiResponseDto>());
+        state.bindConnection(connection);
+        connection.send(state, new TextMessage(sessionId));
+        return state;
+    }
+
+    @Test
+    void session_id가_있으면_해당_세션의_요청으로_보낸다() throws Exception {
+        // given
+        WebSocketClientService service = newService(false);
+        AiWebSocketConnection connection = openConnection();
+        sendRequest(service, connection, "session-1-1");
+        AiRequestState second = sendRequest(service, connection, "session-2-2");
+
+        // when
+        AiRequestState resolved = service.resolveRequest(connection, "session-2-2", CHAT_DELTA, request -> true);
+
+        // then
+        assertThat(resolved).isSameAs(second);
+    }
+
+    @Test
+    void session_id가_없는_프레임은_전송_순서대로_요청에_보낸다() throws Exception {
+        // given
+        WebSocketClientService service = newService(false);
+        AiWebSocketConnection connection = openConnection();
+        AiRequestState first = sendRequest(service, connection, "session-1-1");
+        AiRequestState second = sendRequest(service, connection, "session-2-2");
+
+        // when
+        AiRequestState firstDelta = service.resolveRequest(connection, null, CHAT_DELTA, request -> !request.isChatEndReceived());
+        AiRequestState firstEnd = service.resolveRequest(connection, null, CHAT_END, request -> !request.isChatEndReceived());
+        firstEnd.markChatEndReceived();
+        AiRequestState secondDelta = service.resolveRequest(connection, null, CHAT_DELTA, request -> !request.isChatEndReceived());
+
+        // then
+        assertThat(firstDelta).isSameAs(first);
+        assertThat(firstEnd).isSameAs(first);
+        assertThat(secondDelta).isSameAs(second);
+    }
+
+    @Test
+    void session_id가_있는_프레임과_없는_프레임이_섞여도_각자의_요청으로_보낸다() throws Exception {
+        // given
+        WebSocketClientService service = newService(false);
+        AiWebSocketConnection connection = openConnection();
+        AiRequestState first = sendRequest(service, connection, "session-1-1");
+        AiRequestState second = sendRequest(service, connection, "session-2-2");
+
+        // when
+        AiRequestState withSession = service.resolveRequest(connection, "session-2-2", CHAT_DELTA, request -> true);
+        AiRequestState withoutSession = service.resolveRequest(connection, null, CHAT_DELTA, request -> !request.isChatEndReceived());
+
+        // then
+        assertThat(withSession).isSameAs(second);
+        assertThat(withoutSession).isSameAs(first);
+    }
+
+    @Test
+    void 응답을_끝까지_받지_못한_요청이_생기면_연결을_닫아_다음_요청으로_넘기지_않는다() throws Exception {
+        // given
+        WebSocketClientService service = newService(false);
+        AiWebSocketConnection connection = openConnection();
+        AiRequestState first = sendRequest(service, connection, "session-1-1");
+        AiRequestState second = sendRequest(service, connection, "session-2-2");
+
+        // when
+        service.registerRequest("session-1-1", new CompletableFuture<AiResponseDto>()); // 첫 요청을 응답 도중 대체
+        AiRequestState lateFrame = service.resolveRequest(connection, null, CHAT_DELTA, request -> !request.isChatEndReceived());
+
+        // then
+        assertThat(first.isCompleted()).isTrue();
+        assertThat(second.getFuture()).isCompletedExceptionally();
+        assertThat(lateFrame).isNull();
+    }
+
+    @Test
+    void strict_모드에서는_session_id가_없는_프레임을_거부한다() throws Exception {
+        // given
+        WebSocketClientService service = newService(true);
+        AiWebSocketConnection connection = openConnection();
+        sendRequest(service, connection, "session-1-1");
+
+        // when
+        AiRequestState resolved = service.resolveRequest(connection, null, CHAT_DELTA, request -> true);
+
+        // then
+        assertThat(resolved).isNull();
+    }
+}
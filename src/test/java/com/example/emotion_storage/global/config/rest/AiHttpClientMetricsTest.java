@@ -0,0 +1,66 @@
+package com.example.emotion_storage.global.config.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+class AiHttpClientMetricsTest {
+
+    private final AiHttpClientMetrics metrics = new AiHttpClientMetrics();
+    private final HttpRequest request = mock(HttpRequest.class);
+    private final ClientHttpRequestExecution execution = mock(ClientHttpRequestExecution.class);
+
+    @Test
+    void 요청이_진행되는_동안에만_진행_중인_요청으로_집계한다() throws IOException {
+        // given
+        int[] inFlightDuringRequest = new int[1];
+        when(execution.execute(any(), any())).thenAnswer(invocation -> {
+            inFlightDuringRequest[0] = metrics.snapshot().inFlight();
+            return mock(ClientHttpResponse.class);
+        });
+
+        // when
+        metrics.intercept(request, new byte[0], execution);
+
+        // then
+        AiHttpClientMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(inFlightDuringRequest[0]).isEqualTo(1);
+        assertThat(snapshot.inFlight()).isZero();
+        assertThat(snapshot.requests()).isEqualTo(1);
+        assertThat(snapshot.failures()).isZero();
+    }
+
+    @Test
+    void 요청이_실패하면_실패_건수에_포함한다() throws IOException {
+        // given
+        when(execution.execute(any(), any())).thenThrow(new IOException("read timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> metrics.intercept(request, new byte[0], execution))
+                .isInstanceOf(IOException.class);
+        assertThat(metrics.snapshot().failures()).isEqualTo(1);
+        assertThat(metrics.snapshot().inFlight()).isZero();
+    }
+
+    @Test
+    void 커넥션_대여_시간의_평균과_최댓값을_기록한다() {
+        // when
+        metrics.recordLease(TimeUnit.MILLISECONDS.toNanos(2));
+        metrics.recordLease(TimeUnit.MILLISECONDS.toNanos(6));
+
+        // then
+        AiHttpClientMetrics.Snapshot snapshot = metrics.snapshot();
+        assertThat(snapshot.leases()).isEqualTo(2);
+        assertThat(snapshot.avgLeaseMillis()).isEqualTo(4.0);
+        assertThat(snapshot.maxLeaseMillis()).isEqualTo(6.0);
+    }
+}
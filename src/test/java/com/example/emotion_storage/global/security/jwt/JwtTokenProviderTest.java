@@ -9,12 +9,13 @@ public class JwtTokenProviderTest {
 
     private static final String SECRET = "0123456789ABCDEF0123456789ABCDEF";
     private static final int EXP_MINUTES = 10;
+    private static final long CACHE_SIZE = 100;
 
     private JwtTokenProvider jwtTokenProvider;
 
     @BeforeEach
     void setUp() {
-        jwtTokenProvider = new JwtTokenProvider(SECRET, EXP_MINUTES);
+        jwtTokenProvider = new JwtTokenProvider(SECRET, EXP_MINUTES, CACHE_SIZE);
     }
 
     @Test
@@ -58,7 +59,7 @@ public class JwtTokenProviderTest {
     @Test
     void 토큰이_만료_되었을_때_EXPIRED를_반환한다() {
         // given
-        JwtTokenProvider immediateExpireJwtTokenProvider = new JwtTokenProvider(SECRET, 0);
+        JwtTokenProvider immediateExpireJwtTokenProvider = new JwtTokenProvider(SECRET, 0, CACHE_SIZE);
         Long userId = 1L;
 
         // when
@@ -86,4 +87,36 @@ public class JwtTokenProviderTest {
         // then
         assertThat(remainingMillis).isNotEqualTo(0L);
     }
+
+    @Test
+    void 한_번의_파싱으로_상태와_userId와_만료_시각을_반환한다() {
+        // given
+        Long userId = 7L;
+        String token = jwtTokenProvider.generateAccessToken(userId);
+
+        // when
+        TokenParseResult first = jwtTokenProvider.parse(token);
+        TokenParseResult second = jwtTokenProvider.parse(token);
+
+        // then
+        assertThat(first.status()).isEqualTo(TokenStatus.VALID);
+        assertThat(first.userId()).isEqualTo(userId);
+        assertThat(first.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void 서명이_다른_토큰은_캐시되지_않고_INVALID를_반환한다() {
+        // given
+        JwtTokenProvider otherProvider = new JwtTokenProvider("FEDCBA9876543210FEDCBA9876543210", EXP_MINUTES, CACHE_SIZE);
+        String forgedToken = otherProvider.generateAccessToken(1L);
+
+        // when
+        TokenParseResult result = jwtTokenProvider.parse(forgedToken);
+
+        // then
+        assertThat(result.status()).isEqualTo(TokenStatus.INVALID);
+        assertThat(result.userId()).isNull();
+        assertThat(jwtTokenProvider.parse(forgedToken).status()).isEqualTo(TokenStatus.INVALID);
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.emotion_storage.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import org.junit.jupiter.api.Test;
+
+class ChatTimestampCodecTest {
+
+    @Test
+    void 클라이언트_timestamp를_포맷터와_같은_값으로_파싱한다() {
+        // given
+        String timestamp = "2025-10-10 00:40:02.230";
+
+        // when
+        LocalDateTime parsed = ChatTimestampCodec.parseClient(timestamp);
+
+        // then
+        assertThat(parsed).isEqualTo(LocalDateTime.parse(timestamp, ChatTimestampCodec.CLIENT_FORMATTER));
+    }
+
+    @Test
+    void AI_서버_timestamp를_소수점_자리수와_관계없이_파싱한다() {
+        // when & then
+        assertThat(ChatTimestampCodec.parseAi("2025-10-10T00:40:02.230468"))
+                .isEqualTo(LocalDateTime.parse("2025-10-10T00:40:02.230468"));
+        assertThat(ChatTimestampCodec.parseAi("2025-10-10T00:40:02.2"))
+                .isEqualTo(LocalDateTime.parse("2025-10-10T00:40:02.2"));
+        assertThat(ChatTimestampCodec.parseAi("2025-10-10T00:40:02"))
+                .isEqualTo(LocalDateTime.parse("2025-10-10T00:40:02"));
+        assertThat(ChatTimestampCodec.parseAi("2025-10-10T00:40"))
+                .isEqualTo(LocalDateTime.parse("2025-10-10T00:40"));
+    }
+
+    @Test
+    void 잘못된_timestamp는_기존과_같은_예외가_발생한다() {
+        // when & then
+        assertThatThrownBy(() -> ChatTimestampCodec.parseClient("2025-13-10 00:40:02.230"))
+                .isInstanceOf(DateTimeParseException.class);
+        assertThatThrownBy(() -> ChatTimestampCodec.parseAi("2025-10-10T0a:40:02.230468"))
+                .isInstanceOf(DateTimeParseException.class);
+    }
+}
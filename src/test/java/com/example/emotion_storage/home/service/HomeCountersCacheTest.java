@@ -0,0 +1,96 @@
+package com.example.emotion_storage.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.emotion_storage.home.dto.HomeCounters;
+import com.example.emotion_storage.home.event.HomeCountersChangedEvent;
+import com.example.emotion_storage.user.domain.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class HomeCountersCacheTest {
+
+    private HomeCountersCache cache;
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        cache = new HomeCountersCache(
+                new ObjectMapper().findAndRegisterModules(), mock(ObjectProvider.class), 100, 30, false, 600
+        );
+    }
+
+    private HomeCounters load(LocalDate ticketDate, LocalDateTime nextArrivalAt) {
+        loadCount.incrementAndGet();
+        return new HomeCounters("tester", 9L, ticketDate, 5L, 2, 1, 10L, nextArrivalAt);
+    }
+
+    @Test
+    void 같은_사용자는_한_번만_불러온다() {
+        // given
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        HomeCounters first = cache.get(1L, () -> load(today, null));
+
+        // when
+        HomeCounters second = cache.get(1L, () -> load(today, null));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(second).isEqualTo(first);
+        assertThat(cache.getStats().localHits()).isEqualTo(1);
+    }
+
+    @Test
+    void 변경_이벤트를_받으면_다음_조회에서_다시_불러온다() {
+        // given
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        cache.get(1L, () -> load(today, null));
+
+        // when
+        cache.onHomeCountersChanged(new HomeCountersChangedEvent(1L));
+        cache.get(1L, () -> load(today, null));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    void 날짜가_바뀌었거나_다음_타임캡슐이_도착했다면_다시_불러온다() {
+        // given
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        cache.get(1L, () -> load(today.minusDays(1), null));
+        cache.get(2L, () -> load(today, LocalDateTime.now().minusSeconds(1)));
+
+        // when
+        cache.get(1L, () -> load(today, null));
+        cache.get(2L, () -> load(today, null));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+    }
+
+    @Test
+    void 조회_중에_무효화되면_그_조회_결과는_다음_조회에서_쓰지_않는다() {
+        // given
+        LocalDate today = LocalDate.now(User.TICKET_ZONE);
+        cache.get(1L, () -> {
+            HomeCounters loaded = load(today, null);
+            // 값을 읽은 뒤 캐시에 저장하기 전에 변경이 커밋된 상황
+            cache.evict(1L);
+            return loaded;
+        });
+
+        // when
+        cache.get(1L, () -> load(today, null));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+}
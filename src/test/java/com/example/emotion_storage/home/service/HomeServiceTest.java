@@ -0,0 +1,166 @@
+package com.example.emotion_storage.home.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.emotion_storage.home.dto.response.HomeInfoResponse;
+import com.example.emotion_storage.notification.repository.NotificationRepository;
+import com.example.emotion_storage.notification.service.NotificationService;
+import com.example.emotion_storage.report.domain.Report;
+import com.example.emotion_storage.report.repository.ReportRepository;
+import com.example.emotion_storage.timecapsule.domain.TimeCapsule;
+import com.example.emotion_storage.timecapsule.repository.TimeCapsuleRepository;
+import com.example.emotion_storage.user.domain.Gender;
+import com.example.emotion_storage.user.domain.SocialType;
+import com.example.emotion_storage.user.domain.User;
+import com.example.emotion_storage.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 홈 정보 조회 쿼리 수 측정
+ * 기존에는 사용자 조회, 도착한 타임캡슐 수, 최신 리포트, 미열람 알림 수를 각각 조회해 4번 왕복했다.
+ * 홈 전용 조회 이후에는 사용자 조회와 상태 조회 두 번이고, 홈 카운터 캐시에 있으면 조회하지 않는다.
+ * 홈 정보 조회는 트랜잭션 밖에서 실행되므로 테스트 데이터를 커밋하고 테스트가 끝나면 지운다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+public class HomeServiceTest {
+
+    @Autowired private HomeService homeService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private TimeCapsuleRepository timeCapsuleRepository;
+    @Autowired private ReportRepository reportRepository;
+    @Autowired private NotificationRepository notificationRepository;
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .socialType(SocialType.GOOGLE)
+                .socialId("social123")
+                .email("test@example.com")
+                .nickname("tester")
+                .gender(Gender.MALE)
+                .birthday(LocalDate.of(2000, 1, 1))
+                .keyCount(5L)
+                .ticketCount(10L)
+                .isTermsAgreed(true)
+                .isPrivacyAgreed(true)
+                .isMarketingAgreed(false)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void cleanup() {
+        notificationRepository.deleteAllInBatch();
+        timeCapsuleRepository.deleteAllInBatch();
+        reportRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Report saveReport(LocalDate historyDate, boolean isOpened) {
+        return reportRepository.save(Report.builder()
+                .historyDate(historyDate)
+                .todaySummary("요약")
+                .stressIndex(30)
+                .happinessIndex(80)
+                .emotionSummary("감정")
+                .isOpened(isOpened)
+                .build());
+    }
+
+    private void saveTimeCapsule(Report report, LocalDateTime historyDate, LocalDateTime openedAt) {
+        timeCapsuleRepository.save(TimeCapsule.builder()
+                .user(user)
+                .report(report)
+                .chatroomId(1L)
+                .historyDate(historyDate)
+                .openedAt(openedAt)
+                .isOpened(false)
+                .isTempSave(false)
+                .isFavorite(false)
+                .oneLineSummary("한 줄 요약")
+                .dialogueSummary("대화 요약")
+                .myMindNote("")
+                .build());
+    }
+
+    @Test
+    void 홈_정보를_사용자_조회와_상태_조회_두_번의_쿼리로_반환한다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Report oldReport = saveReport(LocalDate.now().minusDays(2), true);
+        Report latestReport = saveReport(LocalDate.now().minusDays(1), false);
+        saveTimeCapsule(oldReport, now.minusDays(10), now.minusDays(3));
+        saveTimeCapsule(latestReport, now.minusDays(1), now.minusHours(1));
+        saveTimeCapsule(null, now.minusHours(2), now.plusDays(7));
+        notificationService.createTimeCapsuleArrival(user.getId(), 1L);
+        notificationService.createTimeCapsuleArrival(user.getId(), 2L);
+        statistics.clear();
+
+        // when
+        HomeInfoResponse response = homeService.getHomeInfo(user.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+        assertThat(response.getUserName()).isEqualTo("tester");
+        assertThat(response.getRemainingTickets()).isEqualTo(User.DAILY_TICKET_COUNT);
+        assertThat(response.getKeyCount()).isEqualTo(5L);
+        assertThat(response.getNotificationCount()).isEqualTo(2);
+        assertThat(response.isHasNewNotification()).isTrue();
+        assertThat(response.getTimeCapsuleCount()).isEqualTo(2);
+        assertThat(response.isHasNewTimeCapsule()).isTrue();
+        assertThat(response.isHasNewReport()).isTrue();
+        assertThat(response.getReportId()).isEqualTo(latestReport.getId());
+    }
+
+    @Test
+    void 최신_리포트를_이미_열어봤다면_새로운_리포트가_없다() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Report oldReport = saveReport(LocalDate.now().minusDays(2), false);
+        Report latestReport = saveReport(LocalDate.now().minusDays(1), true);
+        saveTimeCapsule(oldReport, now.minusDays(2), null);
+        saveTimeCapsule(latestReport, now.minusDays(1), null);
+
+        // when
+        HomeInfoResponse response = homeService.getHomeInfo(user.getId());
+
+        // then
+        assertThat(response.isHasNewReport()).isFalse();
+        assertThat(response.getReportCount()).isZero();
+        assertThat(response.getReportId()).isNull();
+        assertThat(response.getNotificationCount()).isZero();
+        assertThat(response.getTimeCapsuleCount()).isZero();
+    }
+
+    @Test
+    void 두_번째_홈_정보_조회는_캐시에서_반환해_쿼리를_실행하지_않는다() {
+        // given
+        homeService.getHomeInfo(user.getId());
+        statistics.clear();
+
+        // when
+        HomeInfoResponse response = homeService.getHomeInfo(user.getId());
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+        assertThat(response.getUserName()).isEqualTo("tester");
+        assertThat(response.getKeyCount()).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,164 @@
+package com.example.emotion_storage.report.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.emotion_storage.report.dto.DailyReportDraft;
+import com.example.emotion_storage.report.dto.response.DailyReportGenerateResponse;
+import com.example.emotion_storage.report.service.DailyReportGenerateService;
+import com.example.emotion_storage.timecapsule.repository.TimeCapsuleRepository;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+class DailyReportSchedulerTest {
+
+    private static final LocalDate TARGET_DATE = LocalDate.of(2025, 10, 10);
+    private static final String CHECKPOINT_KEY = "daily-report:checkpoint:2025-10-10";
+    private static final String FAILED_KEY = "daily-report:failed:2025-10-10";
+    private static final String LOCK_KEY = "daily-report:lock:2025-10-10";
+
+    private final TimeCapsuleRepository timeCapsuleRepository = mock(TimeCapsuleRepository.class);
+    private final DailyReportGenerateService dailyReportGenerateService = mock(DailyReportGenerateService.class);
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+    @SuppressWarnings("unchecked")
+    private final SetOperations<String, String> setOperations = mock(SetOperations.class);
+
+    private DailyReportScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(dailyReportGenerateService.prepareDailyReport(anyLong(), eq(TARGET_DATE)))
+                .thenAnswer(invocation -> Optional.of(
+                        new DailyReportDraft(invocation.getArgument(0), TARGET_DATE, List.of(1L), "타임캡슐")));
+        when(dailyReportGenerateService.requestDailyReport(any())).thenReturn(new DailyReportGenerateResponse());
+        when(dailyReportGenerateService.saveDailyReport(any(), any())).thenReturn(true);
+
+        scheduler = new DailyReportScheduler(timeCapsuleRepository, dailyReportGenerateService, redisTemplate, 2, 2, false, 5, false);
+    }
+
+    private List<Long> findCandidates(Long afterUserId) {
+        return timeCapsuleRepository.findDailyReportCandidateUserIds(
+                TARGET_DATE.atStartOfDay(), TARGET_DATE.plusDays(1).atStartOfDay(), TARGET_DATE,
+                afterUserId, PageRequest.of(0, 2)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @Test
+    void 페이지마다_체크포인트를_남기고_끝나면_완료로_표시한다() {
+        // given
+        when(findCandidates(0L)).thenReturn(List.of(1L, 2L));
+        when(findCandidates(2L)).thenReturn(List.of(3L));
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(dailyReportGenerateService).saveDailyReport(eq(new DailyReportDraft(1L, TARGET_DATE, List.of(1L), "타임캡슐")), any());
+        verify(dailyReportGenerateService).saveDailyReport(eq(new DailyReportDraft(3L, TARGET_DATE, List.of(1L), "타임캡슐")), any());
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("0"), any(Duration.class));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("2"), any(Duration.class));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("3"), any(Duration.class));
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("DONE"), any(Duration.class));
+    }
+
+    @Test
+    void 체크포인트가_있으면_그_다음_사용자부터_이어서_생성한다() {
+        // given
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("2");
+        when(findCandidates(2L)).thenReturn(List.of(3L));
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(timeCapsuleRepository, never()).findDailyReportCandidateUserIds(any(), any(), any(), eq(0L), any());
+        verify(dailyReportGenerateService).prepareDailyReport(3L, TARGET_DATE);
+        verify(dailyReportGenerateService, never()).prepareDailyReport(1L, TARGET_DATE);
+    }
+
+    @Test
+    void 이미_완료된_날짜는_다시_생성하지_않는다() {
+        // given
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("DONE");
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(timeCapsuleRepository, never()).findDailyReportCandidateUserIds(any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void 실패한_사용자는_마지막_페이지_뒤에_다시_생성한다() {
+        // given
+        when(findCandidates(0L)).thenReturn(List.of(1L));
+        when(dailyReportGenerateService.requestDailyReport(new DailyReportDraft(1L, TARGET_DATE, List.of(1L), "타임캡슐")))
+                .thenThrow(new RuntimeException("AI 서버 오류"))
+                .thenReturn(new DailyReportGenerateResponse());
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(dailyReportGenerateService, times(2)).prepareDailyReport(1L, TARGET_DATE);
+        verify(setOperations).add(FAILED_KEY, "1");
+        verify(setOperations).remove(FAILED_KEY, "1");
+        verify(valueOperations).set(eq(CHECKPOINT_KEY), eq("DONE"), any(Duration.class));
+    }
+
+    @Test
+    void 중단되기_전_실행에서_실패한_사용자도_다시_생성한다() {
+        // given
+        when(valueOperations.get(CHECKPOINT_KEY)).thenReturn("2");
+        when(findCandidates(2L)).thenReturn(List.of());
+        when(setOperations.members(FAILED_KEY)).thenReturn(Set.of("1"));
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(dailyReportGenerateService).prepareDailyReport(1L, TARGET_DATE);
+        verify(setOperations).remove(FAILED_KEY, "1");
+    }
+
+    @Test
+    void 다른_노드가_락을_잡고_있으면_생성하지_않는다() {
+        // given
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        // when
+        scheduler.generateDailyReports(TARGET_DATE);
+
+        // then
+        verify(valueOperations, never()).get(CHECKPOINT_KEY);
+        verify(timeCapsuleRepository, never()).findDailyReportCandidateUserIds(any(), any(), any(), anyLong(), any());
+    }
+}
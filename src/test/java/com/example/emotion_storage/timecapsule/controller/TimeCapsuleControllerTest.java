@@ -15,12 +15,15 @@ import com.example.emotion_storage.global.exception.ErrorCode;
 import com.example.emotion_storage.timecapsule.dto.EmotionDetailDto;
 import com.example.emotion_storage.global.dto.PaginationDto;
 import com.example.emotion_storage.timecapsule.dto.TimeCapsuleDto;
+import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleCreateRequest;
 import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleFavoriteRequest;
 import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleNoteUpdateRequest;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleDetailResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleExistDateResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleFavoriteResponse;
 import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleListResponse;
+import com.example.emotion_storage.timecapsule.service.TimeCapsuleCreateJobService;
 import com.example.emotion_storage.timecapsule.service.TimeCapsuleService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.time.LocalDate;
@@ -43,6 +46,7 @@ class TimeCapsuleControllerTest {
     @Autowired MockMvc mockMvc;
     @Autowired ObjectMapper objectMapper;
     @MockitoBean TimeCapsuleService timeCapsuleService;
+    @MockitoBean TimeCapsuleCreateJobService timeCapsuleCreateJobService;
     @MockitoBean JpaMetamodelMappingContext jpaMetamodelMappingContext;
 
     @Test
@@ -530,4 +534,23 @@ class TimeCapsuleControllerTest {
                 .andExpect(jsonPath("$.message").value(SuccessMessage.DELETE_TIME_CAPSULE_SUCCESS.getMessage()))
                 .andExpect(jsonPath("$.data").doesNotExist());
     }
-}
\ No newline at end of file
+
+    @Test
+    void 타임캡슐_비동기_생성_요청은_작업_ID를_바로_반환한다() throws Exception {
+        // given
+        TimeCapsuleCreateRequest request = new TimeCapsuleCreateRequest(1L);
+        given(timeCapsuleCreateJobService.enqueue(eq(request), anyLong()))
+                .willReturn(TimeCapsuleCreateJobResponse.pending("job-1", 1L));
+
+        // when & then
+        mockMvc.perform(post("/api/v1/time-capsule/create-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value(HttpStatus.ACCEPTED.value()))
+                .andExpect(jsonPath("$.message").value(SuccessMessage.CREATE_TIME_CAPSULE_JOB_SUCCESS.getMessage()))
+                .andExpect(jsonPath("$.data.jobId").value("job-1"))
+                .andExpect(jsonPath("$.data.status").value("PENDING"))
+                .andExpect(jsonPath("$.data.message_type").value(TimeCapsuleCreateJobResponse.MESSAGE_TYPE));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.emotion_storage.timecapsule.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.emotion_storage.report.domain.EmotionVariation;
+import com.example.emotion_storage.report.domain.Keyword;
+import com.example.emotion_storage.report.domain.Report;
+import com.example.emotion_storage.report.repository.ReportRepository;
+import com.example.emotion_storage.timecapsule.domain.AnalyzedEmotion;
+import com.example.emotion_storage.timecapsule.domain.AnalyzedFeedback;
+import com.example.emotion_storage.timecapsule.domain.TimeCapsule;
+import com.example.emotion_storage.user.domain.Gender;
+import com.example.emotion_storage.user.domain.SocialType;
+import com.example.emotion_storage.user.domain.User;
+import com.example.emotion_storage.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 타임캡슐/리포트 저장 시 JDBC 왕복 횟수 측정
+ * IDENTITY 전략에서는 자식 행마다 INSERT가 한 번씩 나가므로 타임캡슐(감정 5, 피드백 6)은 12번,
+ * 리포트(키워드 5, 감정 변화 5)는 11번 왕복했다. 테이블 기반 ID 생성기와 배치 설정 이후에는 테이블당 한 번이다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+public class BatchInsertRoundTripTest {
+
+    @Autowired TimeCapsuleRepository timeCapsuleRepository;
+    @Autowired ReportRepository reportRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager entityManager;
+    @Autowired EntityManagerFactory entityManagerFactory;
+
+    private User user;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder()
+                .socialType(SocialType.GOOGLE)
+                .socialId("social123")
+                .email("test@example.com")
+                .nickname("tester")
+                .gender(Gender.MALE)
+                .birthday(LocalDate.of(2000, 1, 1))
+                .keyCount(10L)
+                .ticketCount(5L)
+                .isTermsAgreed(true)
+                .isPrivacyAgreed(true)
+                .isMarketingAgreed(false)
+                .build());
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // ID 블록을 미리 할당받아 측정 구간에는 INSERT만 남도록 한다.
+        timeCapsuleRepository.save(newTimeCapsule());
+        reportRepository.save(newReport());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private TimeCapsule newTimeCapsule() {
+        TimeCapsule timeCapsule = TimeCapsule.builder()
+                .user(user)
+                .chatroomId(1L)
+                .historyDate(LocalDateTime.now())
+                .oneLineSummary("한 줄 요약")
+                .dialogueSummary("대화 요약")
+                .myMindNote("")
+                .isOpened(false)
+                .isTempSave(true)
+                .isFavorite(false)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            timeCapsule.addAnalyzedEmotion(AnalyzedEmotion.builder()
+                    .analyzedEmotion("감정" + i)
+                    .percentage(20)
+                    .build());
+        }
+        for (int i = 0; i < 6; i++) {
+            timeCapsule.addAnalyzedFeedback(AnalyzedFeedback.builder()
+                    .analyzedFeedback("피드백" + i)
+                    .build());
+        }
+        return timeCapsule;
+    }
+
+    private Report newReport() {
+        Report report = Report.builder()
+                .historyDate(LocalDate.now())
+                .todaySummary("요약")
+                .stressIndex(30)
+                .happinessIndex(80)
+                .emotionSummary("감정")
+                .isOpened(false)
+                .build();
+
+        for (int i = 0; i < 5; i++) {
+            report.addKeyword(Keyword.builder().keyword("키워드" + i).build());
+            report.addEmotionVariation(EmotionVariation.builder()
+                    .time(LocalDate.now().atTime(8 + i, 0))
+                    .label("감정" + i)
+                    .build());
+        }
+        return report;
+    }
+
+    @Test
+    void 감정과_피드백이_있는_타임캡슐을_테이블당_한_번의_INSERT로_저장한다() {
+        // given
+        TimeCapsule timeCapsule = newTimeCapsule();
+        statistics.clear();
+
+        // when
+        timeCapsuleRepository.save(timeCapsule);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void 키워드와_감정_변화가_있는_리포트를_테이블당_한_번의_INSERT로_저장한다() {
+        // given
+        Report report = newReport();
+        statistics.clear();
+
+        // when
+        reportRepository.save(report);
+        entityManager.flush();
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+}
@@ -258,4 +258,56 @@ public class TimeCapsuleRepositoryTest {
         // then
         assertThat(favoriteCount).isEqualTo(2);
     }
+
+    @Test
+    void 해당_날짜에_타임캡슐이_있고_리포트가_없는_사용자만_리포트_생성_대상으로_반환한다() {
+        // given
+        LocalDate today = BASE.toLocalDate();
+        LocalDateTime startOfDay = today.atStartOfDay();
+        User writer = userRepository.save(User.builder()
+                .socialType(SocialType.KAKAO)
+                .socialId("social456")
+                .email("writer@example.com")
+                .nickname("writer")
+                .gender(Gender.FEMALE)
+                .birthday(LocalDate.of(2000,1,1))
+                .keyCount(10L)
+                .ticketCount(5L)
+                .isTermsAgreed(true)
+                .isPrivacyAgreed(true)
+                .isMarketingAgreed(false)
+                .build());
+
+        // 기존 사용자는 오늘 리포트가 연결된 타임캡슐이 있다.
+        saveTimeCapsule(startOfDay.plusHours(1), null, false, false, false, null, "리포트 있음");
+        for (int hour = 2; hour <= 3; hour++) {
+            timeCapsuleRepository.save(TimeCapsule.builder()
+                    .user(writer)
+                    .chatroomId(2L)
+                    .historyDate(startOfDay.plusHours(hour))
+                    .isOpened(false)
+                    .isTempSave(false)
+                    .isFavorite(false)
+                    .oneLineSummary("리포트 없음")
+                    .dialogueSummary("대화")
+                    .myMindNote("노트")
+                    .build());
+        }
+
+        // when
+        List<Long> todayCandidates = timeCapsuleRepository.findDailyReportCandidateUserIds(
+                startOfDay, startOfDay.plusDays(1), today, 0L, PageRequest.of(0, 10)
+        );
+        List<Long> afterWriter = timeCapsuleRepository.findDailyReportCandidateUserIds(
+                startOfDay, startOfDay.plusDays(1), today, writer.getId(), PageRequest.of(0, 10)
+        );
+        List<Long> yesterdayCandidates = timeCapsuleRepository.findDailyReportCandidateUserIds(
+                startOfDay.minusDays(1), startOfDay, today.minusDays(1), 0L, PageRequest.of(0, 10)
+        );
+
+        // then
+        assertThat(todayCandidates).containsExactly(writer.getId());
+        assertThat(afterWriter).isEmpty();
+        assertThat(yesterdayCandidates).isEmpty();
+    }
 }
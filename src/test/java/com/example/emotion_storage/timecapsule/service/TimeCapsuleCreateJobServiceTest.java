@@ -0,0 +1,139 @@
+package com.example.emotion_storage.timecapsule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.example.emotion_storage.chat.domain.ChatRoom;
+import com.example.emotion_storage.chat.repository.ChatRoomRepository;
+import com.example.emotion_storage.chat.service.ChatRoomBroadcaster;
+import com.example.emotion_storage.global.exception.BaseException;
+import com.example.emotion_storage.global.exception.ErrorCode;
+import com.example.emotion_storage.timecapsule.domain.TimeCapsuleCreateJobStatus;
+import com.example.emotion_storage.timecapsule.dto.request.TimeCapsuleCreateRequest;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+class TimeCapsuleCreateJobServiceTest {
+
+    private static final Long USER_ID = 1L;
+
+    private final TimeCapsuleService timeCapsuleService = mock(TimeCapsuleService.class);
+    private final ChatRoomRepository chatRoomRepository = mock(ChatRoomRepository.class);
+    private final ChatRoomBroadcaster chatRoomBroadcaster = mock(ChatRoomBroadcaster.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private TimeCapsuleCreateJobStore jobStore;
+    private TimeCapsuleCreateJobService jobService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(chatRoomRepository.findByIdAndUser_Id(any(), eq(USER_ID)))
+                .thenReturn(Optional.of(mock(ChatRoom.class)));
+        // 작업 스레드 1개, 대기열 없음, 종료 시 기다리지 않음
+        jobStore = new TimeCapsuleCreateJobStore(
+                new ObjectMapper(), mock(ObjectProvider.class), false, 60
+        );
+        jobService = new TimeCapsuleCreateJobService(
+                timeCapsuleService, chatRoomRepository, chatRoomBroadcaster, jobStore, 1, 0, 0, false
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        jobService.shutdown();
+    }
+
+    private void blockAiCall(Long timeCapsuleId) {
+        when(timeCapsuleService.createTimeCapsule(any(), eq(USER_ID))).thenAnswer(invocation -> {
+            release.await();
+            return new TimeCapsuleCreateResponse(timeCapsuleId);
+        });
+    }
+
+    @Test
+    void 작업이_끝나면_채팅방으로_결과를_알리고_조회할_수_있다() {
+        // given
+        blockAiCall(10L);
+
+        // when
+        TimeCapsuleCreateJobResponse pending = jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+        release.countDown();
+
+        // then
+        assertThat(pending.status()).isEqualTo(TimeCapsuleCreateJobStatus.PENDING);
+
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(chatRoomBroadcaster, timeout(2000)).send(eq(5L), payload.capture());
+        TimeCapsuleCreateJobResponse completed = (TimeCapsuleCreateJobResponse) payload.getValue();
+        assertThat(completed.status()).isEqualTo(TimeCapsuleCreateJobStatus.COMPLETED);
+        assertThat(completed.timeCapsuleId()).isEqualTo(10L);
+        assertThat(jobService.getJob(pending.jobId(), USER_ID)).isEqualTo(completed);
+    }
+
+    @Test
+    void 같은_채팅방의_작업이_진행_중이면_새_작업을_만들지_않는다() {
+        // given
+        blockAiCall(10L);
+        TimeCapsuleCreateJobResponse first = jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+
+        // when
+        TimeCapsuleCreateJobResponse second = jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+
+        // then
+        assertThat(second.jobId()).isEqualTo(first.jobId());
+    }
+
+    @Test
+    void 작업_스레드와_대기열이_가득_차면_요청을_거절한다() {
+        // given
+        blockAiCall(10L);
+        jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.enqueue(new TimeCapsuleCreateRequest(6L), USER_ID))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.TIME_CAPSULE_CREATE_JOB_QUEUE_FULL.getMessage());
+    }
+
+    @Test
+    void 다른_사용자의_작업은_조회할_수_없다() {
+        // given
+        blockAiCall(10L);
+        TimeCapsuleCreateJobResponse job = jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+
+        // when & then
+        assertThatThrownBy(() -> jobService.getJob(job.jobId(), 2L))
+                .isInstanceOf(BaseException.class)
+                .hasMessage(ErrorCode.TIME_CAPSULE_CREATE_JOB_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    void 종료_전에_끝나지_않은_작업은_실패로_표시하고_채팅방_등록을_푼다() {
+        // given
+        blockAiCall(10L);
+        TimeCapsuleCreateJobResponse job = jobService.enqueue(new TimeCapsuleCreateRequest(5L), USER_ID);
+
+        // when
+        jobService.shutdown();
+
+        // then
+        assertThat(jobService.getJob(job.jobId(), USER_ID).status()).isEqualTo(TimeCapsuleCreateJobStatus.FAILED);
+        assertThat(jobStore.claimRoom(5L, "next-job")).isNull();
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.emotion_storage.timecapsule.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.example.emotion_storage.timecapsule.dto.response.TimeCapsuleCreateJobResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+class TimeCapsuleCreateJobStoreTest {
+
+    private TimeCapsuleCreateJobStore jobStore;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jobStore = new TimeCapsuleCreateJobStore(new ObjectMapper(), mock(ObjectProvider.class), false, 60);
+    }
+
+    @Test
+    void 채팅방에_진행_중인_작업이_있으면_그_작업_ID를_반환한다() {
+        // given
+        jobStore.claimRoom(5L, "job-1");
+
+        // when
+        String activeJobId = jobStore.claimRoom(5L, "job-2");
+
+        // then
+        assertThat(activeJobId).isEqualTo("job-1");
+    }
+
+    @Test
+    void 진행_중인_작업이_바뀌었으면_교체하지_않는다() {
+        // given
+        jobStore.claimRoom(5L, "job-1");
+        jobStore.replaceRoom(5L, "job-1", "job-2");
+
+        // when
+        boolean replaced = jobStore.replaceRoom(5L, "job-1", "job-3");
+
+        // then
+        assertThat(replaced).isFalse();
+        assertThat(jobStore.claimRoom(5L, "job-4")).isEqualTo("job-2");
+    }
+
+    @Test
+    void 다른_작업의_등록은_해제하지_않는다() {
+        // given
+        jobStore.claimRoom(5L, "job-1");
+
+        // when
+        jobStore.releaseRoom(5L, "job-2");
+
+        // then
+        assertThat(jobStore.claimRoom(5L, "job-3")).isEqualTo("job-1");
+    }
+
+    @Test
+    void 작업_상태를_바꾸면_바뀐_상태를_조회한다() {
+        // given
+        jobStore.save("job-1", new TimeCapsuleCreateJobStore.Job(1L, TimeCapsuleCreateJobResponse.pending("job-1", 5L)));
+
+        // when
+        TimeCapsuleCreateJobResponse running = jobStore.update("job-1", TimeCapsuleCreateJobResponse::running);
+
+        // then
+        assertThat(jobStore.get("job-1").state()).isEqualTo(running);
+    }
+}
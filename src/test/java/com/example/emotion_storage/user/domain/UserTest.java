@@ -1,7 +1,9 @@
 package com.example.emotion_storage.user.domain;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.example.emotion_storage.global.exception.BaseException;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -157,4 +159,43 @@ public class UserTest {
         assertThat(kakaoUser.isKakaoType()).isTrue();
         assertThat(kakaoUser.isGoogleType()).isFalse();
     }
+
+    @Test
+    void 새로운_날에_처음_티켓을_사용하면_하루_지급량으로_충전한_뒤_차감한다() {
+        // given
+        LocalDate yesterday = LocalDate.of(2025, 10, 9);
+        LocalDate today = LocalDate.of(2025, 10, 10);
+        User user = User.builder()
+                .socialType(SocialType.KAKAO)
+                .ticketCount(0L)
+                .ticketResetDate(yesterday)
+                .build();
+
+        // when
+        long remainingBeforeUse = user.getRemainingTickets(today);
+        user.useTicket(today);
+        user.useTicket(today);
+
+        // then
+        assertThat(remainingBeforeUse).isEqualTo(User.DAILY_TICKET_COUNT);
+        assertThat(user.getTicketCount()).isEqualTo(User.DAILY_TICKET_COUNT - 2);
+        assertThat(user.getTicketResetDate()).isEqualTo(today);
+        assertThat(user.getRemainingTickets(today)).isEqualTo(User.DAILY_TICKET_COUNT - 2);
+    }
+
+    @Test
+    void 오늘_티켓을_모두_사용했다면_충전하지_않고_예외가_발생한다() {
+        // given
+        LocalDate today = LocalDate.of(2025, 10, 10);
+        User user = User.builder()
+                .socialType(SocialType.KAKAO)
+                .ticketCount(0L)
+                .ticketResetDate(today)
+                .build();
+
+        // when & then
+        assertThatThrownBy(() -> user.useTicket(today))
+                .isInstanceOf(BaseException.class);
+        assertThat(user.getRemainingTickets(today)).isZero();
+    }
 }